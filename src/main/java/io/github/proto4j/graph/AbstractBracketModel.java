@@ -0,0 +1,176 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import javax.swing.event.EventListenerList;
+
+/**
+ * This abstract class provides default implementations for the eventing
+ * methods of the {@code BracketModel} interface. It takes care of the
+ * management of listeners and provides some conveniences for generating
+ * {@code BracketModelEvent}s and dispatching them to the listeners.
+ * <p>
+ * Events may be fired from any thread. Listeners that update Swing
+ * components are responsible to transfer the work to the event dispatch
+ * thread.
+ *
+ * @param <E> the data type stored in each cell
+ * @see BracketModel
+ * @see DefaultBracketModel
+ */
+public abstract class AbstractBracketModel<E>
+        implements BracketModel<E> {
+
+    /**
+     * List of listeners.
+     */
+    protected final EventListenerList listenerList = new EventListenerList();
+
+    /**
+     * Adds a listener to the list that is notified each time a change to
+     * the data model occurs.
+     *
+     * @param l the {@code BracketModelListener}
+     */
+    @Override
+    public void addBracketModelListener(BracketModelListener l) {
+        listenerList.add(BracketModelListener.class, l);
+    }
+
+    /**
+     * Removes a listener from the list that is notified each time a change
+     * to the data model occurs.
+     *
+     * @param l the {@code BracketModelListener}
+     */
+    @Override
+    public void removeBracketModelListener(BracketModelListener l) {
+        listenerList.remove(BracketModelListener.class, l);
+    }
+
+    /**
+     * Returns an array of all the bracket model listeners registered on
+     * this model.
+     *
+     * @return all of this model's {@code BracketModelListener}s or an empty
+     *         array if no listeners are currently registered
+     */
+    public BracketModelListener[] getBracketModelListeners() {
+        return listenerList.getListeners(BracketModelListener.class);
+    }
+
+    /**
+     * Notifies all listeners that all cell values may have changed.
+     */
+    public void fireBracketDataChanged() {
+        fireBracketChanged(new BracketModelEvent(this));
+    }
+
+    /**
+     * Notifies all listeners that the column structure of this model has
+     * changed.
+     */
+    public void fireBracketStructureChanged() {
+        fireBracketChanged(new BracketModelEvent(this, BracketModelEvent.HEADER_ROW));
+    }
+
+    /**
+     * Notifies all listeners that the value of the cell at the given column
+     * and row has been updated.
+     *
+     * @param column the column of the cell
+     * @param row the row of the cell
+     */
+    public void fireCellUpdated(int column, int row) {
+        fireBracketChanged(new BracketModelEvent(this, column, row));
+    }
+
+    /**
+     * Notifies all listeners that the rows in the range
+     * {@code [firstRow, lastRow]}, inclusive, have been updated.
+     *
+     * @param column the column of the rows
+     * @param firstRow the first row
+     * @param lastRow the last row
+     */
+    public void fireRowsUpdated(int column, int firstRow, int lastRow) {
+        fireBracketChanged(new BracketModelEvent(this, column, firstRow, lastRow,
+                                                 BracketModelEvent.UPDATE));
+    }
+
+    /**
+     * Notifies all listeners that the rows in the range
+     * {@code [firstRow, lastRow]}, inclusive, have been inserted.
+     *
+     * @param column the column of the rows
+     * @param firstRow the first row
+     * @param lastRow the last row
+     */
+    public void fireRowsInserted(int column, int firstRow, int lastRow) {
+        fireBracketChanged(new BracketModelEvent(this, column, firstRow, lastRow,
+                                                 BracketModelEvent.INSERT));
+    }
+
+    /**
+     * Notifies all listeners that the rows in the range
+     * {@code [firstRow, lastRow]}, inclusive, have been deleted.
+     *
+     * @param column the column of the rows
+     * @param firstRow the first row
+     * @param lastRow the last row
+     */
+    public void fireRowsDeleted(int column, int firstRow, int lastRow) {
+        fireBracketChanged(new BracketModelEvent(this, column, firstRow, lastRow,
+                                                 BracketModelEvent.DELETE));
+    }
+
+    /**
+     * Notifies all listeners that a column has been inserted at the given
+     * index.
+     *
+     * @param column the index of the new column
+     */
+    public void fireColumnInserted(int column) {
+        fireBracketChanged(new BracketModelEvent(this, column, BracketModelEvent.HEADER_ROW,
+                                                 BracketModelEvent.HEADER_ROW,
+                                                 BracketModelEvent.INSERT));
+    }
+
+    /**
+     * Forwards the given notification event to all
+     * {@code BracketModelListeners} that registered themselves as listeners
+     * for this model.
+     *
+     * @param e the event to be forwarded
+     */
+    public void fireBracketChanged(BracketModelEvent e) {
+        Object[] listeners = listenerList.getListenerList();
+        for (int i = listeners.length - 2; i >= 0; i -= 2) {
+            if (listeners[i] == BracketModelListener.class) {
+                ((BracketModelListener) listeners[i + 1]).bracketChanged(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Animates cells of a {@code JBracketView} that have been advanced or
+ * inserted. All animators are driven by a single shared {@code Timer}, which
+ * only runs while there is at least one running animation.
+ * <p>
+ * The progress of an animation is computed from the elapsed time, so that
+ * frames can be dropped without slowing the animation down. If painting the
+ * animated cells took longer than the frame budget, the following ticks are
+ * skipped instead of queueing more repaints on the event dispatch thread.
+ * Each tick only repaints the regions covered by the animated cells.
+ *
+ * @see JBracketView#animateAdvancement(int, int)
+ * @see JBracketView#animateInsertion(int, int)
+ */
+final class BracketAnimator {
+
+    /**
+     * The default duration of an animation in milliseconds.
+     */
+    static final int DEFAULT_DURATION = 250;
+
+    // the time between two ticks of the shared timer
+    private static final int FRAME_DELAY = 1000 / BracketRepaintScheduler.DEFAULT_FRAME_RATE;
+
+    // the time painting all animated cells of a view may take per frame
+    private static final long FRAME_BUDGET = 8_000_000L;
+
+    // only accessed on the EDT
+    private static final List<BracketAnimator> ACTIVE = new ArrayList<>();
+    private static final Timer TIMER = new Timer(FRAME_DELAY, e -> tickAll());
+
+    private final JBracketView<?> view;
+
+    // all fields below are only accessed on the EDT
+    private final Map<Long, Animation> animations = new HashMap<>();
+
+    private int  duration = DEFAULT_DURATION;
+    private long paintCost;
+    private long skipUntil;
+
+    BracketAnimator(JBracketView<?> view) {
+        this.view = view;
+    }
+
+    int getDuration() {
+        return duration;
+    }
+
+    void setDuration(int duration) {
+        if (duration < 0) {
+            throw new IllegalArgumentException("Duration has to be >= 0");
+        }
+        this.duration = duration;
+    }
+
+    /**
+     * Returns whether there is at least one running animation.
+     */
+    boolean isAnimating() {
+        return !animations.isEmpty();
+    }
+
+    /**
+     * Returns whether the cell at the given position is painted by this
+     * animator.
+     */
+    boolean isAnimating(int column, int row) {
+        return !animations.isEmpty() && animations.containsKey(key(column, row));
+    }
+
+    /**
+     * Starts an animation that moves the content of the given source cell
+     * into the target cell. If the source is {@code null}, the target cell
+     * fades in.
+     *
+     * @param source the cell that contained the value before, or {@code null}
+     * @param column the column of the target cell
+     * @param row the row of the target cell
+     */
+    void animate(Rectangle source, int column, int row) {
+        if (duration == 0 || view.getCellBounds(column, row) == null) {
+            return;
+        }
+
+        Animation animation = new Animation(column, row, source, System.nanoTime());
+        Animation previous  = animations.put(key(column, row), animation);
+        if (previous != null && previous.painted != null) {
+            view.repaint(previous.painted);
+        }
+        repaint(animation);
+
+        if (!ACTIVE.contains(this)) {
+            ACTIVE.add(this);
+        }
+        if (!TIMER.isRunning()) {
+            TIMER.start();
+        }
+    }
+
+    /**
+     * Stops all animations of this animator.
+     */
+    void stop() {
+        animations.clear();
+        ACTIVE.remove(this);
+        if (ACTIVE.isEmpty()) {
+            TIMER.stop();
+        }
+    }
+
+    /**
+     * Paints all animated cells with their current progress.
+     *
+     * @param g the graphics context of the view
+     * @param painter paints the value of a cell into the given bounds
+     */
+    void paintAnimations(Graphics g, CellPainter painter) {
+        if (animations.isEmpty()) {
+            return;
+        }
+
+        long      start = System.nanoTime();
+        Rectangle clip  = g.getClipBounds();
+        for (Animation animation : animations.values()) {
+            Rectangle bounds = animation.getBounds(start);
+            if (bounds == null) {
+                continue;
+            }
+            animation.painted = bounds;
+            if (clip != null && !clip.intersects(bounds)) {
+                continue;
+            }
+
+            Graphics2D g2 = (Graphics2D) g.create();
+            try {
+                if (animation.source == null) {
+                    g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
+                                                               animation.getProgress(start)));
+                }
+                painter.paintCell(g2, animation.column, animation.row, bounds);
+            } finally {
+                g2.dispose();
+            }
+        }
+        paintCost = System.nanoTime() - start;
+    }
+
+    private void tick(long now) {
+        if (now < skipUntil) {
+            return;
+        }
+        if (paintCost > FRAME_BUDGET) {
+            // drop the frames that the last paint would have exceeded
+            skipUntil = now + paintCost - FRAME_BUDGET;
+            paintCost = 0;
+            return;
+        }
+
+        Iterator<Animation> iterator = animations.values().iterator();
+        while (iterator.hasNext()) {
+            Animation animation = iterator.next();
+            repaint(animation);
+            if (animation.getProgress(now) >= 1f) {
+                iterator.remove();
+            }
+        }
+    }
+
+    // repaints the region covered by the last painted and the current bounds
+    private void repaint(Animation animation) {
+        Rectangle bounds = animation.getBounds(System.nanoTime());
+        if (bounds == null) {
+            return;
+        }
+        if (animation.painted != null) {
+            bounds = bounds.union(animation.painted);
+        }
+
+        BracketConstraints bc  = view.getConstraints();
+        int                pad = bc == null ? 0 : bc.lineThickness;
+        bounds.grow(pad, pad);
+        view.repaint(bounds);
+    }
+
+    private static void tickAll() {
+        long now = System.nanoTime();
+        for (Iterator<BracketAnimator> iterator = ACTIVE.iterator(); iterator.hasNext(); ) {
+            BracketAnimator animator = iterator.next();
+            animator.tick(now);
+            if (animator.animations.isEmpty()) {
+                iterator.remove();
+            }
+        }
+        if (ACTIVE.isEmpty()) {
+            TIMER.stop();
+        }
+    }
+
+    private static long key(int column, int row) {
+        return ((long) column << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Paints the value of a single cell for the animator.
+     */
+    interface CellPainter {
+        void paintCell(Graphics g, int column, int row, Rectangle bounds);
+    }
+
+    private final class Animation {
+        final int       column;
+        final int       row;
+        final Rectangle source;
+        final long      start;
+
+        // the bounds of the last paint
+        Rectangle painted;
+
+        Animation(int column, int row, Rectangle source, long start) {
+            this.column = column;
+            this.row    = row;
+            this.source = source;
+            this.start  = start;
+        }
+
+        float getProgress(long now) {
+            float progress = (now - start) / (duration * 1_000_000f);
+            return Math.max(0f, Math.min(1f, progress));
+        }
+
+        // the bounds of the animated cell at the given time, using the
+        // cached layout of the view
+        Rectangle getBounds(long now) {
+            Rectangle target = view.getCellBounds(column, row);
+            if (target == null || source == null) {
+                return target;
+            }
+
+            // ease out, so that the cell slows down before it arrives
+            float t = getProgress(now);
+            t = 1f - (1f - t) * (1f - t);
+            return new Rectangle(Math.round(source.x + (target.x - source.x) * t),
+                                 Math.round(source.y + (target.y - source.y) * t),
+                                 target.width, target.height);
+        }
+    }
+}
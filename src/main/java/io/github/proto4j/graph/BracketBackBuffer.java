@@ -0,0 +1,491 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * The retained back buffer of a {@code JBracketView}. The surface of the
+ * view is split into tiles of {@value #TILE_SIZE} x {@value #TILE_SIZE}
+ * pixels. Repaint requests of the view only mark the affected region of
+ * each tile as dirty, and painting re-renders the dirty regions of the
+ * visible tiles before they are copied to the screen. Scrolling over
+ * unchanged cells is therefore just a copy of the tiles.
+ * <p>
+ * Tiles are kept in a least-recently-used cache whose size is bounded in
+ * bytes, so the memory of the buffer doesn't grow with the size of the
+ * bracket. Tiles that are painted are created lazily as
+ * {@code VolatileImage}s, whose contents are restored automatically if they
+ * are lost. After each paint, the missing or dirty tiles around the visible
+ * region are rendered ahead of time into {@code BufferedImage}s on a
+ * background thread, so that scrolling mostly hits cached tiles. These
+ * tiles are rendered at the scale of the screen, so they are as sharp as
+ * the tiles painted on the event dispatch thread.
+ * <p>
+ * Background rendering skips animations and drag feedback, and it never
+ * holds the lock of the view. It is only done if the view has a
+ * {@code BracketCellPainter} or a {@code BracketCellRendererFactory}, so
+ * that the background thread can paint with a renderer of its own. The
+ * cell renderer of the view and its renderer pane belong to the showing
+ * component, so without a painter or a factory, all tiles are rendered on
+ * the event dispatch thread when they become visible. The same applies to
+ * screens whose scale doesn't map a tile onto whole device pixels.
+ *
+ * @see JBracketView#setBackBufferEnabled(boolean)
+ * @see JBracketView#setBackBufferCapacity(long)
+ */
+final class BracketBackBuffer {
+
+    /**
+     * The width and height of each tile.
+     */
+    static final int TILE_SIZE = 512;
+
+    /**
+     * The amount of bytes of a single tile.
+     */
+    static final long TILE_BYTES = 4L * TILE_SIZE * TILE_SIZE;
+
+    /**
+     * The default capacity of the buffer in bytes.
+     */
+    static final long DEFAULT_CAPACITY = 64L << 20;
+
+    // the amount of tries to paint a tile whose contents have been lost
+    private static final int MAX_ATTEMPTS = 2;
+
+    private static final Executor EXECUTOR = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "BracketTileRenderer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final JBracketView<?> view;
+
+    // All fields below are guarded by this, because repaint requests may
+    // come from any thread. Tiles are only added to and removed from the
+    // cache on the event dispatch thread, and they are rendered without
+    // holding the lock.
+
+    // the cached tiles by their tile column and row in access order
+    private final LinkedHashMap<Long, Tile> tiles = new LinkedHashMap<>(16, 0.75f, true);
+
+    // tiles that are rendered in the background
+    private final Map<Long, Tile> pending = new HashMap<>();
+    private final ArrayDeque<Tile> queue = new ArrayDeque<>();
+
+    private long    capacity = DEFAULT_CAPACITY;
+    private boolean running;
+
+    BracketBackBuffer(JBracketView<?> view) {
+        this.view = view;
+    }
+
+    /**
+     * Marks the given region of the view as dirty.
+     */
+    synchronized void invalidate(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0 || (tiles.isEmpty() && pending.isEmpty())) {
+            return;
+        }
+
+        // the amount of tiles is bounded by the capacity, and iterating the
+        // values doesn't change the access order
+        Rectangle region = new Rectangle(x, y, width, height);
+        for (Tile tile : tiles.values()) {
+            tile.invalidate(region);
+        }
+        for (Tile tile : pending.values()) {
+            tile.invalidate(region);
+        }
+    }
+
+    /**
+     * Releases all tiles and cancels tiles that are rendered in the
+     * background.
+     */
+    synchronized void flush() {
+        for (Iterator<Tile> it = tiles.values().iterator(); it.hasNext(); ) {
+            it.next().image.flush();
+            it.remove();
+        }
+        pending.clear();
+        queue.clear();
+    }
+
+    synchronized long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sets the maximum amount of bytes of all tiles and evicts the least
+     * recently used tiles that exceed the new capacity.
+     */
+    void setCapacity(long capacity) {
+        synchronized (this) {
+            this.capacity = capacity;
+            queue.clear();
+        }
+        evict();
+    }
+
+    /**
+     * Paints the clipped region of the given graphics context from the
+     * tiles, and renders dirty tiles before. Afterwards, the tiles around
+     * the visible region are rendered in the background.
+     *
+     * @return {@code false} if no tiles can be created, because the view
+     *         is not displayable or the capacity is too small
+     */
+    boolean paint(Graphics g) {
+        GraphicsConfiguration gc = view.getGraphicsConfiguration();
+        if (gc == null || getCapacity() < TILE_BYTES) {
+            return false;
+        }
+
+        Rectangle bounds = new Rectangle(0, 0, view.getWidth(), view.getHeight());
+        Rectangle clip   = g.getClipBounds();
+        clip = clip == null ? bounds : clip.intersection(bounds);
+        if (clip.isEmpty()) {
+            return true;
+        }
+
+        int minColumn = clip.x / TILE_SIZE;
+        int minRow    = clip.y / TILE_SIZE;
+        int maxColumn = (clip.x + clip.width - 1) / TILE_SIZE;
+        int maxRow    = (clip.y + clip.height - 1) / TILE_SIZE;
+        for (int i = minColumn; i <= maxColumn; i++) {
+            for (int j = minRow; j <= maxRow; j++) {
+                paintTile(g, getTile(i, j, gc), gc);
+            }
+        }
+        evict();
+        prerender(view.getVisibleRect().intersection(bounds), bounds, gc);
+        return true;
+    }
+
+    private synchronized Tile getTile(int column, int row, GraphicsConfiguration gc) {
+        return tiles.computeIfAbsent(key(column, row), k -> {
+            Tile tile = new Tile(column, row);
+            tile.image = createVolatileImage(gc);
+            tile.invalidateAll();
+            return tile;
+        });
+    }
+
+    private void paintTile(Graphics g, Tile tile, GraphicsConfiguration gc) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int state = VolatileImage.IMAGE_OK;
+            if (tile.image instanceof VolatileImage) {
+                state = ((VolatileImage) tile.image).validate(gc);
+                if (state == VolatileImage.IMAGE_INCOMPATIBLE) {
+                    tile.image.flush();
+                    tile.image = createVolatileImage(gc);
+                }
+            }
+
+            // regions invalidated while rendering stay dirty
+            Rectangle dirty;
+            synchronized (this) {
+                if (state != VolatileImage.IMAGE_OK) {
+                    tile.invalidateAll();
+                }
+                dirty      = tile.dirty;
+                tile.dirty = null;
+            }
+            if (dirty != null) {
+                render(tile, dirty, g2 -> view.paintBrackets(g2, true));
+            }
+
+            // prerendered tiles have the size of the tile in device pixels
+            g.drawImage(tile.image, tile.getX(), tile.getY(), TILE_SIZE, TILE_SIZE, null);
+            if (!(tile.image instanceof VolatileImage)
+                    || !((VolatileImage) tile.image).contentsLost()) {
+                return;
+            }
+            synchronized (this) {
+                tile.invalidateAll();
+            }
+        }
+    }
+
+    private void render(Tile tile, Rectangle dirty, Consumer<Graphics> painter) {
+        Graphics2D g = (Graphics2D) tile.image.getGraphics();
+        try {
+            if (tile.image instanceof BufferedImage) {
+                BufferedImage image = (BufferedImage) tile.image;
+                g.scale(image.getWidth() / (double) TILE_SIZE, image.getHeight() / (double) TILE_SIZE);
+            }
+            g.translate(-tile.getX(), -tile.getY());
+            g.clip(dirty);
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(dirty.x, dirty.y, dirty.width, dirty.height);
+            g.setComposite(AlphaComposite.SrcOver);
+            g.setFont(view.getFont());
+            g.setColor(view.getForeground());
+            painter.accept(g);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    // evicts the least recently used tiles that exceed the capacity
+    private void evict() {
+        List<Tile> evicted = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Tile> it = tiles.values().iterator();
+            while (it.hasNext() && tiles.size() * TILE_BYTES > capacity) {
+                evicted.add(it.next());
+                it.remove();
+            }
+        }
+        for (Tile tile : evicted) {
+            tile.image.flush();
+        }
+    }
+
+    // queues the missing or dirty tiles around the visible region, nearest
+    // first, as long as they fit into the capacity next to the visible ones
+    private void prerender(Rectangle visible, Rectangle bounds, GraphicsConfiguration gc) {
+        if (visible.isEmpty() || !BackgroundPainter.canPaint(view)) {
+            return;
+        }
+        AffineTransform transform = gc.getDefaultTransform();
+        int width  = getDeviceSize(transform.getScaleX());
+        int height = getDeviceSize(transform.getScaleY());
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        Rectangle area = new Rectangle(visible);
+        area.grow(TILE_SIZE, TILE_SIZE);
+        area = area.intersection(bounds);
+
+        int minColumn = area.x / TILE_SIZE;
+        int minRow    = area.y / TILE_SIZE;
+        int maxColumn = (area.x + area.width - 1) / TILE_SIZE;
+        int maxRow    = (area.y + area.height - 1) / TILE_SIZE;
+
+        List<Tile> candidates = new ArrayList<>();
+        int visibleCount = 0;
+        synchronized (this) {
+            for (int i = minColumn; i <= maxColumn; i++) {
+                for (int j = minRow; j <= maxRow; j++) {
+                    Tile tile = new Tile(i, j);
+                    if (visible.intersects(tile.getBounds())) {
+                        visibleCount++;
+                        continue;
+                    }
+                    Long key    = key(i, j);
+                    Tile cached = tiles.get(key);
+                    if (!pending.containsKey(key) && (cached == null || cached.dirty != null)) {
+                        candidates.add(tile);
+                    }
+                }
+            }
+
+            long limit = capacity / TILE_BYTES - visibleCount;
+            if (candidates.size() > limit) {
+                candidates.sort(Comparator.comparingLong(t -> t.distance(visible)));
+                candidates = candidates.subList(0, (int) Math.max(0, limit));
+            }
+            queue.clear();
+            if (candidates.isEmpty()) {
+                return;
+            }
+            queue.addAll(candidates);
+            if (running) {
+                return;
+            }
+            running = true;
+        }
+        EXECUTOR.execute(() -> runPrerender(gc, width, height));
+    }
+
+    private void runPrerender(GraphicsConfiguration gc, int width, int height) {
+        BackgroundPainter<?> painter = BackgroundPainter.create(view);
+        while (true) {
+            Tile tile;
+            synchronized (this) {
+                tile = queue.poll();
+                if (tile == null) {
+                    running = false;
+                    return;
+                }
+                pending.put(key(tile.column, tile.row), tile);
+            }
+
+            try {
+                tile.image = gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+                render(tile, tile.getBounds(), painter::paint);
+                SwingUtilities.invokeLater(() -> install(tile));
+            } catch (RuntimeException e) {
+                // The model and the painter are read while the EDT may change
+                // them, so a failure is most likely a harmless race. The tile
+                // is dropped and rendered on the EDT when it becomes visible,
+                // which reports persistent errors like any other painting
+                // error.
+                synchronized (this) {
+                    pending.remove(key(tile.column, tile.row));
+                }
+                if (tile.image != null) {
+                    tile.image.flush();
+                }
+            }
+        }
+    }
+
+    // moves a tile that was rendered in the background into the cache,
+    // unless the buffer has been flushed in the meantime
+    private void install(Tile tile) {
+        Tile old;
+        synchronized (this) {
+            Long key = key(tile.column, tile.row);
+            if (pending.get(key) != tile) {
+                return;
+            }
+            pending.remove(key);
+            old = tiles.put(key, tile);
+        }
+        if (old != null) {
+            old.image.flush();
+        }
+        evict();
+    }
+
+    private static VolatileImage createVolatileImage(GraphicsConfiguration gc) {
+        return gc.createCompatibleVolatileImage(TILE_SIZE, TILE_SIZE, Transparency.TRANSLUCENT);
+    }
+
+    // the size of a tile in device pixels, or 0 if the tile doesn't cover
+    // whole device pixels at the given scale
+    private static int getDeviceSize(double scale) {
+        double size = TILE_SIZE * scale;
+        return size >= 1 && size == Math.rint(size) ? (int) size : 0;
+    }
+
+    private static Long key(int column, int row) {
+        return ((long) column << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Paints the tiles of one background run, with the cell painter of the
+     * view or a renderer of its own.
+     */
+    private static final class BackgroundPainter<T> {
+        final JBracketView<T>                view;
+        final BracketCellRenderer<? super T> renderer;
+        final CellRendererPane               pane;
+
+        BackgroundPainter(JBracketView<T> view, BracketCellRendererFactory<? super T> factory) {
+            this.view     = view;
+            this.renderer = factory == null ? null : factory.createCellRenderer();
+            this.pane     = new CellRendererPane();
+        }
+
+        static <T> BackgroundPainter<T> create(JBracketView<T> view) {
+            return new BackgroundPainter<>(view, view.getCellRendererFactory());
+        }
+
+        // whether the cells of the view can be painted off the event
+        // dispatch thread
+        static boolean canPaint(JBracketView<?> view) {
+            return view.getCellPainter() != null || view.getCellRendererFactory() != null;
+        }
+
+        void paint(Graphics g) {
+            BracketModel<T> model  = view.getModel();
+            BracketLayout   layout = view.getBracketLayout();
+            if (model == null || model.getColumnCount() == 0) {
+                return;
+            }
+            if (layout == null || (renderer == null && view.getCellPainter() == null)) {
+                // the painter or the factory has been removed in the meantime
+                throw new IllegalStateException("View can't be painted in the background");
+            }
+            view.paintBrackets(g, layout, renderer, pane, false);
+        }
+    }
+
+    /**
+     * A single tile and the region of it that has to be rendered again.
+     */
+    private static final class Tile {
+        final int column;
+        final int row;
+        Image     image;
+        Rectangle dirty;
+
+        Tile(int column, int row) {
+            this.column = column;
+            this.row    = row;
+        }
+
+        int getX() {
+            return column * TILE_SIZE;
+        }
+
+        int getY() {
+            return row * TILE_SIZE;
+        }
+
+        Rectangle getBounds() {
+            return new Rectangle(getX(), getY(), TILE_SIZE, TILE_SIZE);
+        }
+
+        // the squared distance between the centers of this tile and the
+        // given region
+        long distance(Rectangle region) {
+            long dx = (getX() + TILE_SIZE / 2) - (long) region.getCenterX();
+            long dy = (getY() + TILE_SIZE / 2) - (long) region.getCenterY();
+            return dx * dx + dy * dy;
+        }
+
+        void invalidate(Rectangle region) {
+            Rectangle r = region.intersection(getBounds());
+            if (!r.isEmpty()) {
+                dirty = dirty == null ? r : dirty.union(r);
+            }
+        }
+
+        void invalidateAll() {
+            dirty = getBounds();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import java.awt.*;
+
+/**
+ * A lightweight alternative to the {@code BracketCellRenderer}, which paints
+ * the value of a cell straight into the graphics context instead of
+ * configuring a component that is stamped by a {@code CellRendererPane}.
+ * Painting a cell therefore costs a few draw calls instead of validating,
+ * laying out and painting a component tree:
+ * <pre>
+ * {@code
+ *  view.setCellPainter((g, view, value, column, row, isSelected, bounds) -> {
+ *      g.setColor(isSelected ? Color.ORANGE : Color.WHITE);
+ *      g.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
+ *      g.setColor(Color.BLACK);
+ *      g.drawString(String.valueOf(value), bounds.x + 4, bounds.y + 15);
+ *  });
+ * }
+ * </pre>
+ * Painters are shared by all threads that paint the view, such as the
+ * background renderer of the back buffer or a {@code BracketExporter}. They
+ * must therefore be thread-safe, which is easy for painters that keep no
+ * state except for immutable caches.
+ * <p>
+ * Every cell is painted on its own copy of the graphics context of the
+ * view, so a painter may change any of its attributes, like the color, the
+ * font or the clip, without restoring them.
+ *
+ * @param <E> the type of values this painter can be used for
+ * @see JBracketView#setCellPainter(BracketCellPainter)
+ * @see MatchCellPainter
+ */
+@FunctionalInterface
+public interface BracketCellPainter<E> {
+
+    /**
+     * Paints the value of a single cell into the given bounds.
+     *
+     * @param g the graphics context to paint in
+     * @param view the {@code JBracketView} we're painting
+     * @param value the value at the given column and row index
+     * @param columnIndex the column index
+     * @param rowIndex the cells row index
+     * @param isSelected true if the specified cell is selected
+     * @param bounds the bounds of the cell, which must not be modified
+     */
+    void paintCell(Graphics2D g, JBracketView<? extends E> view, E value,
+                   int columnIndex, int rowIndex, boolean isSelected, Rectangle bounds);
+}
@@ -74,4 +74,28 @@ public interface BracketCellRenderer<E> {
             E value,
             int columnIndex,
             int rowIndex);
+
+    /**
+     * Return a component that has been configured to display the specified
+     * value, taking the selection state of the cell into account. The
+     * default implementation ignores the selection state and delegates to
+     * {@link #getBracketCellRendererComponent(JBracketView, Object, int, int)}.
+     *
+     * @param bracketView the {@code JBracketView} we're painting
+     * @param value the value at the given column and row index
+     * @param columnIndex the column index
+     * @param rowIndex the cells row index
+     * @param isSelected true if the specified cell is selected
+     * @return A component whose paint() method will render the specified value.
+     *
+     * @see JBracketView#isCellSelected(int, int)
+     */
+    default Component getBracketCellRendererComponent(
+            JBracketView<? extends E> bracketView,
+            E value,
+            int columnIndex,
+            int rowIndex,
+            boolean isSelected) {
+        return getBracketCellRendererComponent(bracketView, value, columnIndex, rowIndex);
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+/**
+ * Creates new instances of a {@code BracketCellRenderer}. Renderers that
+ * are used as "rubber stamps" configure themselves for every cell, so a
+ * single instance can't be used by more than one thread. With a factory,
+ * each thread or tile that renders cells gets a renderer of its own:
+ * <pre>
+ * {@code
+ *  view.setCellRendererFactory(GameCellRenderer::new);
+ * }
+ * </pre>
+ * A view with a factory renders the tiles of its back buffer in the
+ * background without holding the lock of the view, and a
+ * {@code BracketExporter} uses the factory of its view by default.
+ * <p>
+ * Note that Swing components share more than their own state: UI delegates,
+ * like the one of {@code JLabel}, and the parser of HTML texts are shared
+ * by all components. The configuration and painting of a renderer component
+ * is therefore serialized across all threads, one cell at a time. A factory
+ * keeps the event dispatch thread responsive, but it doesn't make the cells
+ * render in parallel. Views that are exported or prerendered on several
+ * cores should paint their cells with a {@link BracketCellPainter} instead.
+ *
+ * @param <E> the type of values the created renderers can be used for
+ * @see JBracketView#setCellRendererFactory(BracketCellRendererFactory)
+ * @see BracketExporter
+ * @see JBracketView#setCellPainter(BracketCellPainter)
+ */
+@FunctionalInterface
+public interface BracketCellRendererFactory<E> {
+
+    /**
+     * Creates a new renderer. The returned renderer must not share any
+     * mutable state with the renderers created before.
+     *
+     * @return a new cell renderer
+     */
+    BracketCellRenderer<E> createCellRenderer();
+}
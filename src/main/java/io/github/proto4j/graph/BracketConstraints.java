@@ -35,7 +35,7 @@ import java.awt.*;
  * @see JBracketView
  */
 public final class BracketConstraints
-        implements BracketLocator {
+        implements BracketLocator, Cloneable {
 
     /**
      * Specifies that the used {@code BracketLinePainter} should paint a
@@ -61,6 +61,24 @@ public final class BracketConstraints
      */
     public static final int BELOW = 2;
 
+    /**
+     * Specifies that the columns of a {@code JBracketView} are placed from
+     * left to right. This is the default orientation and has the same value
+     * as {@code SwingConstants.HORIZONTAL}.
+     *
+     * @see BracketConstraints#orientation
+     */
+    public static final int HORIZONTAL = 0;
+
+    /**
+     * Specifies that the columns of a {@code JBracketView} are placed from
+     * top to bottom. This has the same value as
+     * {@code SwingConstants.VERTICAL}.
+     *
+     * @see BracketConstraints#orientation
+     */
+    public static final int VERTICAL = 1;
+
     /**
      * Specifies the default bracket height to use for all brackets within the
      * {@code JBracketView}.
@@ -118,6 +136,21 @@ public final class BracketConstraints
      */
     public int spaceY;
 
+    /**
+     * Specifies the direction in which the columns are placed. All
+     * locators and line painters compute their positions for the
+     * {@link #HORIZONTAL} orientation. For the {@link #VERTICAL}
+     * orientation, they are given a {@linkplain #transpose() transposed}
+     * copy of these constraints, and X and Y of the results are swapped
+     * by the {@code BracketLayout}. Thus, {@code spaceX} and {@code spaceY}
+     * always refer to the axes of the view, while the size of each cell
+     * stays {@code bracketWidth} x {@code bracketHeight}.
+     *
+     * @see BracketConstraints#HORIZONTAL
+     * @see BracketConstraints#VERTICAL
+     */
+    public int orientation;
+
     /**
      * Creates a {@code BracketConstraints} object with all of its fields set
      * to the passed-in arguments.
@@ -153,6 +186,50 @@ public final class BracketConstraints
         paintMode = CENTER;
     }
 
+    /**
+     * Creates a copy of this {@code BracketConstraints}.
+     *
+     * @return a copy of these constraints
+     */
+    @Override
+    public BracketConstraints clone() {
+        try {
+            return (BracketConstraints) super.clone();
+        } catch (CloneNotSupportedException e) {
+            // this shouldn't happen, since we are Cloneable
+            throw new InternalError(e);
+        }
+    }
+
+    /**
+     * Returns a copy of these constraints in which all X- and Y-related
+     * values are swapped and the orientation is {@link #HORIZONTAL}. This is
+     * the coordinate system locators and line painters work in if the
+     * orientation is {@link #VERTICAL}.
+     *
+     * @return the transposed copy of these constraints
+     */
+    public BracketConstraints transpose() {
+        BracketConstraints bc = clone();
+        bc.bracketWidth  = bracketHeight;
+        bc.bracketHeight = bracketWidth;
+        bc.ipadX         = ipadY;
+        bc.ipadY         = ipadX;
+        bc.spaceX        = spaceY;
+        bc.spaceY        = spaceX;
+        bc.orientation   = HORIZONTAL;
+        return bc;
+    }
+
+    /**
+     * Returns whether the columns are placed from top to bottom.
+     *
+     * @return {@code true} if the orientation is {@link #VERTICAL}
+     */
+    public boolean isVertical() {
+        return orientation == VERTICAL;
+    }
+
     /**
      * Computes the relative X-position of the given column. This implementation
      * adds some extra space at the start point of the X-axis,
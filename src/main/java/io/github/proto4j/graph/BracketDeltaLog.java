@@ -0,0 +1,390 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * An append-only log of all changes made to a {@code BracketModel}. Each
+ * recorded change (a delta) gets a version number, starting with {@code 1}
+ * for the first delta. Version {@code 0} always describes an empty model,
+ * which is why the content of a model is recorded as deltas when the log
+ * is attached to it.
+ * <p>
+ * The following deltas are supported:
+ * <ul>
+ *     <li>{@link #SET}: the value of an existing cell has changed</li>
+ *     <li>{@link #INSERT_ROW}: a new cell has been inserted into a column</li>
+ *     <li>{@link #ADD_COLUMN}: a new column has been appended</li>
+ *     <li>{@link #DELETE_ROW}: a cell has been removed from a column</li>
+ * </ul>
+ * Structure changes without any detail, like
+ * {@link AbstractBracketModel#fireBracketStructureChanged()}, and changes
+ * that remove whole columns can't be represented. They cause an
+ * {@code IllegalStateException}, because the log would no longer match the
+ * model.
+ * <p>
+ * Ranges of deltas can be applied to a {@code DefaultBracketModel} or
+ * converted to bytes, which can then be applied on the other side of a
+ * connection:
+ * <pre>
+ * {@code
+ *  // server
+ *  BracketDeltaLog<String> log = new BracketDeltaLog<>(model);
+ *  ByteBuffer buffer = ByteBuffer.allocate(log.encodedSize(clientVersion, log.getVersion(), codec));
+ *  log.encode(clientVersion, log.getVersion(), codec, buffer);
+ *
+ *  // client
+ *  buffer.flip();
+ *  clientVersion = BracketDeltaLog.replay(buffer, codec, clientModel);
+ * }
+ * </pre>
+ *
+ * @param <E> the data type stored in each cell
+ * @see DefaultBracketModel
+ */
+public class BracketDeltaLog<E>
+        implements BracketModelListener {
+
+    /**
+     * Identifies a changed cell value.
+     */
+    public static final byte SET = 0;
+
+    /**
+     * Identifies an inserted cell.
+     */
+    public static final byte INSERT_ROW = 1;
+
+    /**
+     * Identifies an appended column.
+     */
+    public static final byte ADD_COLUMN = 2;
+
+    /**
+     * Identifies a removed cell.
+     */
+    public static final byte DELETE_ROW = 3;
+
+    // guarded by this
+    private byte[]   types   = new byte[16];
+    private int[]    columns = new int[16];
+    private int[]    rows    = new int[16];
+    private Object[] values  = new Object[16];
+    private int      size;
+
+    private BracketModel<? extends E> model;
+
+    /**
+     * Creates an empty log that is not attached to any model.
+     */
+    public BracketDeltaLog() {}
+
+    /**
+     * Creates a new log and attaches it to the given model.
+     *
+     * @param model the model to record
+     * @see #attach(BracketModel)
+     */
+    public BracketDeltaLog(BracketModel<? extends E> model) {
+        attach(model);
+    }
+
+    /**
+     * Starts recording the changes of the given model. The current content of
+     * the model is recorded first, so that the model can be reconstructed
+     * from an empty one.
+     *
+     * @param model the model to record
+     * @throws IllegalStateException if the log is already attached
+     */
+    public synchronized void attach(BracketModel<? extends E> model) {
+        if (this.model != null) {
+            throw new IllegalStateException("Log is already attached to a model");
+        }
+        this.model = model;
+        for (int i = 0; i < model.getColumnCount(); i++) {
+            append(ADD_COLUMN, i, 0, null);
+            for (int j = 0; j < model.getRowCount(i); j++) {
+                append(INSERT_ROW, i, j, model.getValueAt(i, j));
+            }
+        }
+        model.addBracketModelListener(this);
+    }
+
+    /**
+     * Stops recording the changes of the attached model.
+     */
+    public synchronized void detach() {
+        if (model != null) {
+            model.removeBracketModelListener(this);
+            model = null;
+        }
+    }
+
+    /**
+     * Returns the version of the latest delta, which is the amount of
+     * recorded deltas.
+     *
+     * @return the current version
+     */
+    public synchronized long getVersion() {
+        return size;
+    }
+
+    /**
+     * Appends a delta to this log.
+     *
+     * @param type one of {@link #SET}, {@link #INSERT_ROW},
+     *         {@link #ADD_COLUMN} or {@link #DELETE_ROW}
+     * @param column the column of the change
+     * @param row the row of the change (ignored for {@link #ADD_COLUMN})
+     * @param value the new value (ignored for {@link #ADD_COLUMN} and
+     *         {@link #DELETE_ROW})
+     * @return the version of the new delta
+     */
+    public synchronized long append(byte type, int column, int row, E value) {
+        if (type < SET || type > DELETE_ROW) {
+            throw new IllegalArgumentException("Unexpected type: " + type);
+        }
+        if (size == types.length) {
+            int capacity = size * 2;
+            types   = Arrays.copyOf(types, capacity);
+            columns = Arrays.copyOf(columns, capacity);
+            rows    = Arrays.copyOf(rows, capacity);
+            values  = Arrays.copyOf(values, capacity);
+        }
+        types[size]   = type;
+        columns[size] = column;
+        rows[size]    = type == ADD_COLUMN ? 0 : row;
+        values[size]  = type == ADD_COLUMN || type == DELETE_ROW ? null : value;
+        return ++size;
+    }
+
+    /**
+     * Records the changes of the attached model.
+     *
+     * @param e the event describing the change
+     * @throws IllegalStateException if the event removes whole columns or
+     *                               changes the structure without any detail
+     */
+    @Override
+    public synchronized void bracketChanged(BracketModelEvent e) {
+        if (model == null) {
+            return;
+        }
+
+        if (e.getType() == BracketModelEvent.DELETE) {
+            if (e.getFirstRow() == BracketModelEvent.HEADER_ROW
+                    || e.getColumn() == BracketModelEvent.ALL_COLUMNS
+                    || e.getLastRow() == Integer.MAX_VALUE) {
+                throw new IllegalStateException("Removed columns can't be recorded");
+            }
+            // the following rows move up with every removed row
+            for (int j = e.getFirstRow(); j <= e.getLastRow(); j++) {
+                append(DELETE_ROW, e.getColumn(), e.getFirstRow(), null);
+            }
+            return;
+        }
+
+        if (e.getFirstRow() == BracketModelEvent.HEADER_ROW) {
+            if (e.getType() != BracketModelEvent.INSERT) {
+                throw new IllegalStateException("Structure changes can't be recorded");
+            }
+            append(ADD_COLUMN, e.getColumn(), 0, null);
+            return;
+        }
+
+        byte type        = e.getType() == BracketModelEvent.INSERT ? INSERT_ROW : SET;
+        int  firstColumn = e.getColumn() == BracketModelEvent.ALL_COLUMNS ? 0 : e.getColumn();
+        int  lastColumn  = e.getColumn() == BracketModelEvent.ALL_COLUMNS
+                ? model.getColumnCount() - 1
+                : e.getColumn();
+
+        for (int i = firstColumn; i <= lastColumn; i++) {
+            int lastRow = Math.min(e.getLastRow(), model.getRowCount(i) - 1);
+            for (int j = e.getFirstRow(); j <= lastRow; j++) {
+                append(type, i, j, model.getValueAt(i, j));
+            }
+        }
+    }
+
+    /**
+     * Applies all deltas with a version in the range
+     * {@code (fromVersion, toVersion]} to the given model. The model is
+     * expected to be in the state of {@code fromVersion}.
+     *
+     * @param target the model to update
+     * @param fromVersion the version of the target model
+     * @param toVersion the version to update to
+     * @throws IllegalArgumentException if the range is invalid
+     */
+    public synchronized void replay(DefaultBracketModel<E> target, long fromVersion,
+                                    long toVersion) {
+        checkRange(fromVersion, toVersion);
+        for (int i = (int) fromVersion; i < toVersion; i++) {
+            @SuppressWarnings("unchecked")
+            E value = (E) values[i];
+            apply(target, types[i], columns[i], rows[i], value);
+        }
+    }
+
+    /**
+     * Reconstructs the model in the state of the given version.
+     *
+     * @param version the version to reconstruct
+     * @return a new model in the state of the given version
+     */
+    public DefaultBracketModel<E> snapshot(long version) {
+        DefaultBracketModel<E> target = new DefaultBracketModel<>(0);
+        replay(target, 0, version);
+        return target;
+    }
+
+    /**
+     * Returns the amount of bytes needed to encode the given range of deltas.
+     *
+     * @param fromVersion the start of the range (exclusive)
+     * @param toVersion the end of the range (inclusive)
+     * @param codec the codec for cell values
+     * @return the encoded size in bytes
+     */
+    public synchronized int encodedSize(long fromVersion, long toVersion,
+                                        BracketElementCodec<E> codec) {
+        checkRange(fromVersion, toVersion);
+        BracketModelCodec<E> cells = new BracketModelCodec<>(codec);
+
+        long size = BracketModelCodec.varLongSize(fromVersion)
+                + BracketModelCodec.varIntSize((int) (toVersion - fromVersion));
+        for (int i = (int) fromVersion; i < toVersion; i++) {
+            size += 1 + BracketModelCodec.varIntSize(columns[i]);
+            if (types[i] == DELETE_ROW) {
+                size += BracketModelCodec.varIntSize(rows[i]);
+            } else if (types[i] != ADD_COLUMN) {
+                @SuppressWarnings("unchecked")
+                E value = (E) values[i];
+                size += BracketModelCodec.varIntSize(rows[i]) + cells.cellSize(value);
+            }
+        }
+        return (int) size;
+    }
+
+    /**
+     * Writes the given range of deltas into the buffer. The value of each
+     * cell is encoded like in the {@code BracketModelCodec}.
+     *
+     * @param fromVersion the start of the range (exclusive)
+     * @param toVersion the end of the range (inclusive)
+     * @param codec the codec for cell values
+     * @param dst the buffer to write to
+     */
+    public synchronized void encode(long fromVersion, long toVersion,
+                                    BracketElementCodec<E> codec, ByteBuffer dst) {
+        checkRange(fromVersion, toVersion);
+        BracketModelCodec<E> cells = new BracketModelCodec<>(codec);
+
+        BracketModelCodec.putVarLong(dst, fromVersion);
+        BracketModelCodec.putVarInt(dst, (int) (toVersion - fromVersion));
+        for (int i = (int) fromVersion; i < toVersion; i++) {
+            dst.put(types[i]);
+            BracketModelCodec.putVarInt(dst, columns[i]);
+            if (types[i] == DELETE_ROW) {
+                BracketModelCodec.putVarInt(dst, rows[i]);
+            } else if (types[i] != ADD_COLUMN) {
+                @SuppressWarnings("unchecked")
+                E value = (E) values[i];
+                BracketModelCodec.putVarInt(dst, rows[i]);
+                cells.encodeCell(value, dst);
+            }
+        }
+    }
+
+    /**
+     * Reads a range of encoded deltas from the buffer and applies them to
+     * the given model.
+     *
+     * @param src the buffer to read from
+     * @param codec the codec for cell values
+     * @param target the model to update
+     * @param <E> the data type stored in each cell
+     * @return the version of the target model after applying all deltas
+     */
+    public static <E> long replay(ByteBuffer src, BracketElementCodec<E> codec,
+                                  DefaultBracketModel<E> target) {
+        BracketModelCodec<E> cells = new BracketModelCodec<>(codec);
+
+        long version = BracketModelCodec.getVarLong(src);
+        int  count   = BracketModelCodec.getVarInt(src);
+        for (int i = 0; i < count; i++) {
+            byte type   = src.get();
+            int  column = BracketModelCodec.getVarInt(src);
+            if (type == ADD_COLUMN) {
+                apply(target, type, column, 0, null);
+            } else if (type == DELETE_ROW) {
+                apply(target, type, column, BracketModelCodec.getVarInt(src), null);
+            } else {
+                int row = BracketModelCodec.getVarInt(src);
+                apply(target, type, column, row, cells.decodeCell(src));
+            }
+        }
+        return version + count;
+    }
+
+    private static <E> void apply(DefaultBracketModel<E> target, byte type,
+                                  int column, int row, E value) {
+        switch (type) {
+            case SET: {
+                target.setValueAt(value, column, row);
+                break;
+            }
+            case INSERT_ROW: {
+                target.insertRow(value, column, row);
+                break;
+            }
+            case ADD_COLUMN: {
+                if (column != target.getColumnCount()) {
+                    throw new IllegalStateException("Expected column " + target.getColumnCount()
+                                                            + ", got " + column);
+                }
+                target.addColumn();
+                break;
+            }
+            case DELETE_ROW: {
+                target.removeRow(column, row);
+                break;
+            }
+            default:
+                throw new IllegalStateException("Unexpected type: " + type);
+        }
+    }
+
+    private void checkRange(long fromVersion, long toVersion) {
+        if (fromVersion < 0 || toVersion < fromVersion || toVersion > size) {
+            throw new IllegalArgumentException("Invalid range: (" + fromVersion + ", "
+                                                       + toVersion + "]");
+        }
+    }
+}
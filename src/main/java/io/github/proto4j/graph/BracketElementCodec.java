@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts single cell values of a {@code BracketModel} to bytes and back.
+ * Element codecs are used by the {@code BracketModelCodec} to store the
+ * content of a model in its binary format. {@code null} values are handled
+ * by the format itself and will never be passed to an element codec.
+ * <p>
+ * For instance, a codec that stores the id of each team could be written
+ * like this:
+ * <pre>
+ * {@code
+ * class TeamCodec implements BracketElementCodec<Team> {
+ *     public int sizeOf(Team value) {
+ *         return Integer.BYTES;
+ *     }
+ *
+ *     public void encode(Team value, ByteBuffer dst) {
+ *         dst.putInt(value.getId());
+ *     }
+ *
+ *     public Team decode(ByteBuffer src, int length) {
+ *         return Team.byId(src.getInt());
+ *     }
+ * }
+ * }
+ * </pre>
+ *
+ * @param <E> the type of values this codec can be used for
+ * @see BracketModelCodec
+ */
+public interface BracketElementCodec<E> {
+
+    /**
+     * Returns a codec that stores {@code String} values in UTF-8.
+     *
+     * @return a codec for {@code String} values
+     */
+    static BracketElementCodec<String> ofStrings() {
+        return StringElementCodec.INSTANCE;
+    }
+
+    /**
+     * Returns the amount of bytes {@link #encode(Object, ByteBuffer)} will
+     * write for the given value.
+     *
+     * @param value the value (never {@code null})
+     * @return the encoded size in bytes
+     */
+    int sizeOf(E value);
+
+    /**
+     * Writes the given value into the buffer. Exactly {@link #sizeOf(Object)}
+     * bytes have to be written.
+     *
+     * @param value the value (never {@code null})
+     * @param dst the buffer to write to
+     */
+    void encode(E value, ByteBuffer dst);
+
+    /**
+     * Reads a value from the given buffer. Exactly {@code length} bytes
+     * have to be read.
+     *
+     * @param src the buffer to read from
+     * @param length the amount of bytes that belong to this value
+     * @return the decoded value
+     */
+    E decode(ByteBuffer src, int length);
+}
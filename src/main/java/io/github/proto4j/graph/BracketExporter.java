@@ -0,0 +1,322 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Renders the brackets of a {@code JBracketView} off-screen, for instance to
+ * export a poster of a whole tournament on a headless server. The surface of
+ * the view is split into tiles, which are rendered in parallel on a
+ * {@code ForkJoinPool}:
+ * <pre>
+ * {@code
+ *  view.setCellPainter(new MatchCellPainter<Game>(
+ *          (game, side) -> side == MatchCellPainter.HOME ? game.getHome() : game.getGuest()));
+ *  BracketExporter<Game> exporter = new BracketExporter<>(view);
+ *  ImageIO.write(exporter.export(), "png", file);
+ * }
+ * </pre>
+ * A {@code BracketCellPainter} is thread-safe, so the painter of the view is
+ * used by all threads. Only exports of views with a cell painter therefore
+ * scale with the parallelism of the pool.
+ * <p>
+ * Swing renderers configure themselves for every cell, so they can't be
+ * shared between threads. Without a cell painter, each tile is rendered with
+ * its own renderer, which is created by a {@code BracketCellRendererFactory},
+ * and its own {@code CellRendererPane}; the cell renderer of the view is not
+ * used. Swing components still share their UI delegates and the parser of
+ * HTML texts, so configuring and stamping a renderer component is serialized
+ * across all views and threads. Tiles are laid out and their lines are
+ * painted in parallel, but their cells are rendered one at a time, which
+ * makes such an export hardly faster than a sequential one.
+ * <p>
+ * The view only provides the model, the layout, the cell painter, the line
+ * painter, the font and the colors. Animations and drag feedback are never
+ * exported.
+ * <p>
+ * Tiles can either be assembled into a single image or be streamed in
+ * row-major order to a {@link TileConsumer}, which only keeps a bounded
+ * amount of rendered tiles in memory. The view, its model and the line
+ * painter must not be modified while an export is running, and the line
+ * painter must be safe to use from multiple threads, like the
+ * {@code DefaultBracketLinePainter}.
+ *
+ * @param <T> the type of the elements of the exported view
+ * @see JBracketView#paintBrackets(Graphics)
+ * @see BracketCellPainter
+ * @see BracketCellRendererFactory
+ */
+public class BracketExporter<T> {
+
+    /**
+     * The default width and height of the exported tiles.
+     */
+    public static final int DEFAULT_TILE_SIZE = 512;
+
+    /**
+     * Receives the rendered tiles of an export.
+     */
+    @FunctionalInterface
+    public interface TileConsumer {
+
+        /**
+         * Receives the next rendered tile. Tiles are passed in row-major
+         * order on the thread that started the export.
+         *
+         * @param x the X-position of the tile in the exported image
+         * @param y the Y-position of the tile in the exported image
+         * @param tile the rendered tile, which is smaller than the tile size
+         *         at the right and bottom edge of the image
+         */
+        void accept(int x, int y, BufferedImage tile);
+    }
+
+    private final JBracketView<T> view;
+    private final BracketCellRendererFactory<? super T> rendererFactory;
+
+    private int          tileSize = DEFAULT_TILE_SIZE;
+    private ForkJoinPool pool     = ForkJoinPool.commonPool();
+
+    /**
+     * Creates a new exporter for the given view, which uses the cell
+     * renderer factory of the view. If the view paints its cells with a
+     * {@code BracketCellPainter}, no factory is needed.
+     *
+     * @param view the view to export
+     * @throws IllegalArgumentException if the view is {@code null} or has
+     *                                  neither a cell renderer factory nor
+     *                                  a cell painter
+     * @see JBracketView#setCellRendererFactory(BracketCellRendererFactory)
+     * @see JBracketView#setCellPainter(BracketCellPainter)
+     */
+    public BracketExporter(JBracketView<T> view) {
+        this(view, getRendererFactory(view));
+    }
+
+    /**
+     * Creates a new exporter for the given view.
+     *
+     * @param view the view to export
+     * @param rendererFactory creates a new cell renderer for each tile; the
+     *         factory may return {@code null} if only lines should be
+     *         exported
+     * @throws IllegalArgumentException if any argument is {@code null}
+     */
+    public BracketExporter(JBracketView<T> view, BracketCellRendererFactory<? super T> rendererFactory) {
+        if (view == null || rendererFactory == null) {
+            throw new IllegalArgumentException("View and renderer factory must be not null");
+        }
+        this.view            = view;
+        this.rendererFactory = rendererFactory;
+    }
+
+    /**
+     * Returns the view of this exporter.
+     *
+     * @return the exported view
+     */
+    public JBracketView<T> getView() {
+        return view;
+    }
+
+    /**
+     * Returns the width and height of the exported tiles.
+     *
+     * @return the tile size
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Sets the width and height of the exported tiles.
+     *
+     * @param tileSize the new tile size
+     * @throws IllegalArgumentException if the tile size is not positive
+     */
+    public void setTileSize(int tileSize) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size has to be > 0");
+        }
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Returns the pool the tiles are rendered on.
+     *
+     * @return the pool of this exporter
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Sets the pool the tiles are rendered on. By default, the common pool
+     * is used.
+     *
+     * @param pool the new pool
+     * @throws IllegalArgumentException if the pool is {@code null}
+     */
+    public void setPool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must be not null");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the size of the exported image, which is the size of the
+     * current layout of the view.
+     *
+     * @return the size of the exported image
+     */
+    public Dimension getSize() {
+        BracketLayout layout = getLayout();
+        return layout == null ? new Dimension() : new Dimension(layout.getWidth(), layout.getHeight());
+    }
+
+    /**
+     * Renders the whole view into a single image.
+     *
+     * @return the rendered image
+     * @throws IllegalStateException if the view has no brackets to export
+     */
+    public BufferedImage export() {
+        Dimension size = getSize();
+        if (size.width <= 0 || size.height <= 0) {
+            throw new IllegalStateException("Nothing to export");
+        }
+
+        BufferedImage image = new BufferedImage(size.width, size.height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            export((x, y, tile) -> g.drawImage(tile, x, y, null));
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Renders the view tile by tile and passes the tiles in row-major order
+     * to the given consumer. At most twice as many tiles as the parallelism
+     * of the pool are rendered ahead of the consumer.
+     * <p>
+     * If a tile can't be rendered, all remaining tiles are cancelled and the
+     * exception is rethrown.
+     *
+     * @param consumer receives the rendered tiles
+     * @throws IllegalArgumentException if the consumer is {@code null}
+     */
+    public void export(TileConsumer consumer) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer must be not null");
+        }
+        BracketLayout layout = getLayout();
+        if (layout == null) {
+            return;
+        }
+
+        int width    = layout.getWidth();
+        int height   = layout.getHeight();
+        int size     = tileSize;
+        int columns  = (int) (((long) width + size - 1) / size);
+        long tiles   = (long) columns * (((long) height + size - 1) / size);
+        int inFlight = Math.max(2, 2 * pool.getParallelism());
+
+        ArrayDeque<ForkJoinTask<BufferedImage>> queue = new ArrayDeque<>();
+        ArrayDeque<Rectangle> bounds = new ArrayDeque<>();
+        try {
+            long next = 0;
+            while (next < tiles || !queue.isEmpty()) {
+                while (next < tiles && queue.size() < inFlight) {
+                    int x = (int) (next % columns) * size;
+                    int y = (int) (next / columns) * size;
+                    Rectangle tile = new Rectangle(x, y, Math.min(size, width - x),
+                                                   Math.min(size, height - y));
+                    queue.add(pool.submit(() -> renderTile(layout, tile)));
+                    bounds.add(tile);
+                    next++;
+                }
+
+                BufferedImage image = queue.poll().join();
+                Rectangle     tile  = bounds.poll();
+                consumer.accept(tile.x, tile.y, image);
+            }
+        } finally {
+            for (ForkJoinTask<BufferedImage> task : queue) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    // the factory of the view, or a factory without renderers if the view
+    // only uses its cell painter
+    private static <T> BracketCellRendererFactory<? super T> getRendererFactory(JBracketView<T> view) {
+        if (view == null) {
+            return null;
+        }
+        BracketCellRendererFactory<? super T> factory = view.getCellRendererFactory();
+        if (factory == null && view.getCellPainter() != null) {
+            return () -> null;
+        }
+        return factory;
+    }
+
+    private BracketLayout getLayout() {
+        BracketModel<T> model = view.getModel();
+        if (model == null || model.getColumnCount() == 0) {
+            return null;
+        }
+        return view.validateBracketLayout();
+    }
+
+    private BufferedImage renderTile(BracketLayout layout, Rectangle bounds) {
+        BufferedImage image = new BufferedImage(bounds.width, bounds.height,
+                                                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.translate(-bounds.x, -bounds.y);
+            g.clip(bounds);
+            if (view.isOpaque()) {
+                g.setColor(view.getBackground());
+                g.fill(bounds);
+            }
+            g.setFont(view.getFont());
+            g.setColor(view.getForeground());
+            view.paintBrackets(g, layout, rendererFactory.createCellRenderer(), new CellRendererPane(), false);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+}
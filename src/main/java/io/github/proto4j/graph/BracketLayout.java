@@ -0,0 +1,590 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import java.util.Arrays;
+
+/**
+ * An immutable snapshot of the positions of all brackets/cells of a
+ * {@code BracketModel}. The positions are computed once by the
+ * {@code BracketLocator} and can then be used by any thread, for instance
+ * to paint the view, to compute repaint regions or to perform hit tests.
+ * <p>
+ * Each cell is addressed by its column and row or by its flat cell index,
+ * which enumerates all cells column by column:
+ * <pre>
+ *     index := columnOffset(column) + row
+ * </pre>
+ * A layout never observes changes of the model or the constraints it has
+ * been computed for. Use {@link #isValid(BracketLocator, BracketConstraints)}
+ * to check whether the layout still matches the current constraints.
+ *
+ * @see JBracketView#getBracketLayout()
+ * @see BracketLocator
+ */
+public final class BracketLayout {
+
+    // number of BracketConstraints fields that are relevant for the layout
+    private static final int SNAPSHOT_SIZE = 9;
+
+    private final int[] columnOffsets;
+    private final int[] xs;
+    private final int[] ys;
+
+    // the index where the second ascending run of positions across the
+    // orientation starts in each column, the end of the column if all of
+    // them ascend, or -1 if there are more runs. Hit tests binary-search
+    // each run, which covers both halves of a mirrored bracket.
+    private final int[]   runStarts;
+    private final boolean vertical;
+
+    private final int cellWidth;
+    private final int cellHeight;
+    private final int width;
+    private final int height;
+
+    // the locator this layout has been requested for, which may differ
+    // from the copy that has been used for the computation
+    private final BracketLocator locator;
+    private final int[]          snapshot;
+    private final long           stamp;
+
+    private BracketLayout(int[] columnOffsets, int[] xs, int[] ys,
+                          int cellWidth, int cellHeight, int width, int height,
+                          BracketLocator locator, int[] snapshot, long stamp,
+                          boolean vertical) {
+        this.columnOffsets = columnOffsets;
+        this.xs            = xs;
+        this.ys            = ys;
+        this.cellWidth     = cellWidth;
+        this.cellHeight    = cellHeight;
+        this.width         = width;
+        this.height        = height;
+        this.locator       = locator;
+        this.snapshot      = snapshot;
+        this.stamp         = stamp;
+        this.vertical      = vertical;
+
+        int[] across = vertical ? xs : ys;
+        runStarts = new int[columnOffsets.length - 1];
+        for (int i = 0; i < runStarts.length; i++) {
+            int runs = 1;
+            runStarts[i] = columnOffsets[i + 1];
+            for (int j = columnOffsets[i] + 1; j < columnOffsets[i + 1]; j++) {
+                if (across[j - 1] > across[j]) {
+                    if (++runs > 2) {
+                        runStarts[i] = -1;
+                        break;
+                    }
+                    runStarts[i] = j;
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the positions of all cells in the given model.
+     * <p>
+     * If the locator is a {@code BracketConstraints} object or a
+     * {@code MirroredBracketLocator}, the elimination positions are computed
+     * column by column in linear time instead of calling the recursive
+     * {@link BracketConstraints#getY(int, int, BracketConstraints)} for every
+     * cell. The results are identical.
+     * <p>
+     * If the orientation of the constraints is
+     * {@link BracketConstraints#VERTICAL}, the positions are computed with
+     * {@linkplain BracketConstraints#transpose() transposed} constraints and
+     * X and Y are swapped afterwards, so every locator supports both
+     * orientations.
+     *
+     * @param model the model to lay out
+     * @param locator the locator computing the position of each cell
+     * @param constraints the current bracket constraints
+     * @return the computed layout
+     * @throws IllegalArgumentException if any of the arguments is {@code null}
+     */
+    public static BracketLayout compute(BracketModel<?> model, BracketLocator locator,
+                                        BracketConstraints constraints) {
+        return compute(model, locator, constraints, locator);
+    }
+
+    /**
+     * Computes the positions of all cells in the given model, whereby the
+     * resulting layout will be valid for the given {@code key} locator. This
+     * is used to compute layouts with a copy of the current constraints.
+     */
+    static BracketLayout compute(BracketModel<?> model, BracketLocator locator,
+                                 BracketConstraints constraints, BracketLocator key) {
+        if (model == null || locator == null || constraints == null) {
+            throw new IllegalArgumentException("Model, locator and constraints must be not null");
+        }
+
+        // read before any position, so that concurrent changes invalidate
+        // this layout
+        long  stamp         = locator.getLayoutStamp();
+        int   columnCount   = model.getColumnCount();
+        int[] columnOffsets = new int[columnCount + 1];
+        for (int i = 0; i < columnCount; i++) {
+            columnOffsets[i + 1] = columnOffsets[i] + Math.max(0, model.getRowCount(i));
+        }
+
+        int   cellCount = columnOffsets[columnCount];
+        int[] xs        = new int[cellCount];
+        int[] ys        = new int[cellCount];
+
+        // locators always work in the horizontal orientation
+        boolean            vertical = constraints.isVertical();
+        BracketConstraints logical  = vertical ? constraints.transpose() : constraints;
+        if (locator instanceof BracketConstraints) {
+            BracketConstraints bc = (BracketConstraints) getHorizontalLocator(locator, constraints);
+            layoutElimination(columnOffsets, ys, bc, Integer.MAX_VALUE);
+            for (int i = 0; i < columnCount; i++) {
+                Arrays.fill(xs, columnOffsets[i], columnOffsets[i + 1], bc.getX(i, logical));
+            }
+        } else if (locator instanceof MirroredBracketLocator) {
+            MirroredBracketLocator mirrored = (MirroredBracketLocator) locator;
+            layoutElimination(columnOffsets, ys, logical,
+                              MirroredBracketLocator.getSideRows(columnCount));
+            for (int i = 0; i < columnCount; i++) {
+                for (int j = columnOffsets[i]; j < columnOffsets[i + 1]; j++) {
+                    xs[j] = mirrored.getX(i, j - columnOffsets[i], columnCount, logical);
+                }
+            }
+        } else {
+            for (int i = 0; i < columnCount; i++) {
+                for (int j = columnOffsets[i]; j < columnOffsets[i + 1]; j++) {
+                    xs[j] = locator.getX(i, j - columnOffsets[i], logical);
+                    ys[j] = locator.getY(i, j - columnOffsets[i], logical);
+                }
+            }
+        }
+        if (vertical) {
+            int[] swap = xs;
+            xs = ys;
+            ys = swap;
+        }
+
+        int cellWidth  = constraints.bracketWidth;
+        int cellHeight = constraints.bracketHeight;
+        int maxX       = 0;
+        int maxY       = 0;
+        for (int i = 0; i < cellCount; i++) {
+            maxX = Math.max(maxX, xs[i] + cellWidth);
+            maxY = Math.max(maxY, ys[i] + cellHeight);
+        }
+
+        return new BracketLayout(columnOffsets, xs, ys, cellWidth, cellHeight,
+                                 maxX + constraints.ipadX, maxY + constraints.ipadY,
+                                 key, snapshot(locator, constraints), stamp, vertical);
+    }
+
+    // Same computation as BracketConstraints.getY(), but each column is
+    // derived from the previous one instead of recursing down to column 0.
+    // Rows of the first column start at the top again after sideRows rows,
+    // which places both halves of a mirrored bracket at the same height.
+    private static void layoutElimination(int[] columnOffsets, int[] ys,
+                                          BracketConstraints locator, int sideRows) {
+        int columnCount = columnOffsets.length - 1;
+        if (columnCount == 0) {
+            return;
+        }
+
+        // the amount of positions needed per column: a cell at row r
+        // depends on the rows 2r and 2r + 1 of the previous column.
+        int[] needed = new int[columnCount];
+        needed[columnCount - 1] = columnOffsets[columnCount] - columnOffsets[columnCount - 1];
+        for (int i = columnCount - 2; i >= 0; i--) {
+            int rows = columnOffsets[i + 1] - columnOffsets[i];
+            needed[i] = Math.max(rows, 2 * needed[i + 1]);
+        }
+
+        int[] previous = null;
+        for (int i = 0; i < columnCount; i++) {
+            int[] current = new int[needed[i]];
+            for (int j = 0; j < current.length; j++) {
+                current[j] = i == 0
+                        ? locator.ipadY + ((locator.bracketHeight + locator.spaceY) * (j % sideRows))
+                        : (previous[2 * j] + previous[2 * j + 1]) / 2;
+            }
+
+            System.arraycopy(current, 0, ys, columnOffsets[i], columnOffsets[i + 1] - columnOffsets[i]);
+            previous = current;
+        }
+    }
+
+    /**
+     * Returns the locator that computes the positions of the horizontal
+     * orientation for the given constraints. {@code BracketConstraints}
+     * compute positions from their own values, so they are transposed as
+     * well if the orientation is vertical.
+     */
+    static BracketLocator getHorizontalLocator(BracketLocator locator, BracketConstraints constraints) {
+        return constraints.isVertical() && locator instanceof BracketConstraints
+                ? ((BracketConstraints) locator).transpose()
+                : locator;
+    }
+
+    private static int[] snapshot(BracketLocator locator, BracketConstraints constraints) {
+        boolean separate = locator instanceof BracketConstraints && locator != constraints;
+        int[]   values   = new int[separate ? 2 * SNAPSHOT_SIZE : SNAPSHOT_SIZE];
+
+        write(constraints, values, 0);
+        if (separate) {
+            write((BracketConstraints) locator, values, SNAPSHOT_SIZE);
+        }
+        return values;
+    }
+
+    private static void write(BracketConstraints bc, int[] values, int offset) {
+        values[offset]     = bc.bracketHeight;
+        values[offset + 1] = bc.bracketWidth;
+        values[offset + 2] = bc.lineThickness;
+        values[offset + 3] = bc.paintMode;
+        values[offset + 4] = bc.ipadX;
+        values[offset + 5] = bc.ipadY;
+        values[offset + 6] = bc.spaceX;
+        values[offset + 7] = bc.spaceY;
+        values[offset + 8] = bc.orientation;
+    }
+
+    /**
+     * Returns whether this layout has been computed with the given locator
+     * and the current values of the given constraints, and whether the
+     * {@linkplain BracketLocator#getLayoutStamp() layout stamp} of the
+     * locator is still the same.
+     *
+     * @param locator the current locator
+     * @param constraints the current constraints
+     * @return {@code true} if the layout is still valid
+     */
+    public boolean isValid(BracketLocator locator, BracketConstraints constraints) {
+        if (locator != this.locator || constraints == null
+                || locator.getLayoutStamp() != stamp) {
+            return false;
+        }
+        return Arrays.equals(snapshot, snapshot(locator, constraints));
+    }
+
+    /**
+     * Returns the orientation this layout has been computed for.
+     *
+     * @return {@link BracketConstraints#HORIZONTAL} or
+     *         {@link BracketConstraints#VERTICAL}
+     */
+    public int getOrientation() {
+        return vertical ? BracketConstraints.VERTICAL : BracketConstraints.HORIZONTAL;
+    }
+
+    /**
+     * Returns the amount of columns in this layout.
+     *
+     * @return the column count
+     */
+    public int getColumnCount() {
+        return columnOffsets.length - 1;
+    }
+
+    /**
+     * Returns the amount of rows in the given column.
+     *
+     * @param column the column index
+     * @return the row count or {@code 0} if the column is invalid
+     */
+    public int getRowCount(int column) {
+        return column < 0 || column >= getColumnCount()
+                ? 0
+                : columnOffsets[column + 1] - columnOffsets[column];
+    }
+
+    /**
+     * Returns the total amount of cells in this layout.
+     *
+     * @return the cell count
+     */
+    public int getCellCount() {
+        return xs.length;
+    }
+
+    /**
+     * Returns the flat index of the cell at the given column and row.
+     *
+     * @param column the column index
+     * @param row the row index
+     * @return the cell index or {@code -1} if there is no such cell
+     */
+    public int getCellIndex(int column, int row) {
+        if (row < 0 || row >= getRowCount(column)) {
+            return -1;
+        }
+        return columnOffsets[column] + row;
+    }
+
+    /**
+     * Returns the column of the cell with the given flat index.
+     *
+     * @param index the cell index
+     * @return the column index or {@code -1} if the index is invalid
+     */
+    public int getColumn(int index) {
+        if (index < 0 || index >= getCellCount()) {
+            return -1;
+        }
+        int low  = 0;
+        int high = getColumnCount() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (columnOffsets[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the row of the cell with the given flat index.
+     *
+     * @param index the cell index
+     * @return the row index or {@code -1} if the index is invalid
+     */
+    public int getRow(int index) {
+        int column = getColumn(index);
+        return column == -1 ? -1 : index - columnOffsets[column];
+    }
+
+    /**
+     * Returns the flat index of the cell that contains the given point.
+     *
+     * @param x the X-coordinate of the point
+     * @param y the Y-coordinate of the point
+     * @return the cell index or {@code -1} if no cell contains the point
+     */
+    public int getCellIndexAt(int x, int y) {
+        int[] across = vertical ? xs : ys;
+        int   value  = vertical ? x : y;
+        for (int i = 0; i < getColumnCount(); i++) {
+            int from  = columnOffsets[i];
+            int to    = columnOffsets[i + 1];
+            int split = runStarts[i];
+            int index;
+            if (split == -1) {
+                index = find(from, to, x, y);
+            } else {
+                index = findSorted(across, value, split, to, x, y);
+                if (index == -1) {
+                    index = findSorted(across, value, from, split, x, y);
+                }
+            }
+            if (index != -1) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    // hit test within [from, to), whose positions across the orientation
+    // are in ascending order
+    private int findSorted(int[] across, int value, int from, int to, int x, int y) {
+        // the last cell starting above the point
+        int low  = from;
+        int high = to - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (across[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return find(Math.max(from, high - 1), high + 1, x, y);
+    }
+
+    // hit test of all cells in [from, to), starting with the last one
+    private int find(int from, int to, int x, int y) {
+        for (int j = to - 1; j >= from; j--) {
+            if (contains(j, x, y)) {
+                return j;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Computes the rows of the given column whose match, i.e. the cell and
+     * its sibling at {@code row ^ 1}, may intersect the range
+     * {@code [min, max)} across the orientation (the Y-axis of horizontal
+     * layouts). In elimination layouts, the lines between a cell and its
+     * successor never leave the extent of the match, so painting only these
+     * rows is enough to fill a clip. Each ascending run of the column is
+     * binary-searched; if the column has more runs, all rows are returned.
+     *
+     * @param column the column index
+     * @param min the start of the range
+     * @param max the end of the range
+     * @param ranges receives up to two inclusive ranges of rows as pairs of
+     *         first and last row
+     * @return the amount of values written to {@code ranges}
+     */
+    int getRowRanges(int column, int min, int max, int[] ranges) {
+        int from  = columnOffsets[column];
+        int to    = columnOffsets[column + 1];
+        int split = runStarts[column];
+        if (from == to) {
+            return 0;
+        }
+        if (split == -1) {
+            ranges[0] = 0;
+            ranges[1] = to - from - 1;
+            return 2;
+        }
+
+        int count = addRowRange(from, from, split, min, max, ranges, 0);
+        return addRowRange(from, split, to, min, max, ranges, count);
+    }
+
+    // adds the rows of the ascending run [from, to) whose match may
+    // intersect [min, max)
+    private int addRowRange(int offset, int from, int to, int min, int max,
+                            int[] ranges, int count) {
+        if (from == to) {
+            return count;
+        }
+        int[] across = vertical ? xs : ys;
+        int   extent = vertical ? cellWidth : cellHeight;
+
+        // the first cell ending behind min
+        int low  = from;
+        int high = to - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if ((long) across[mid] + extent <= min) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        int first = low;
+
+        // the last cell starting before max
+        low  = first;
+        high = to - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (across[mid] < max) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        int last = high;
+
+        // extend both ends to the sibling, which covers matches whose cells
+        // lie on both sides of the range
+        first = Math.max(from, offset + ((first - offset) & ~1));
+        last  = Math.min(to - 1, offset + ((last - offset) | 1));
+        if (first > last) {
+            return count;
+        }
+        ranges[count]     = first - offset;
+        ranges[count + 1] = last - offset;
+        return count + 2;
+    }
+
+    private boolean contains(int index, int x, int y) {
+        return x >= xs[index] && x < xs[index] + cellWidth
+                && y >= ys[index] && y < ys[index] + cellHeight;
+    }
+
+    /**
+     * Returns the X-position of the cell at the given column and row.
+     *
+     * @param column the column index
+     * @param row the row index
+     * @return the X-position of the cell
+     * @throws IndexOutOfBoundsException if there is no such cell
+     */
+    public int getX(int column, int row) {
+        return xs[checkedIndex(column, row)];
+    }
+
+    /**
+     * Returns the Y-position of the cell at the given column and row.
+     *
+     * @param column the column index
+     * @param row the row index
+     * @return the Y-position of the cell
+     * @throws IndexOutOfBoundsException if there is no such cell
+     */
+    public int getY(int column, int row) {
+        return ys[checkedIndex(column, row)];
+    }
+
+    /**
+     * Returns the width of each cell.
+     *
+     * @return the cell width
+     */
+    public int getCellWidth() {
+        return cellWidth;
+    }
+
+    /**
+     * Returns the height of each cell.
+     *
+     * @return the cell height
+     */
+    public int getCellHeight() {
+        return cellHeight;
+    }
+
+    /**
+     * Returns the width needed to display all cells, including the initial
+     * space on the X-axis.
+     *
+     * @return the total width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height needed to display all cells, including the initial
+     * space on the Y-axis.
+     *
+     * @return the total height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    private int checkedIndex(int column, int row) {
+        int index = getCellIndex(column, row);
+        if (index == -1) {
+            throw new IndexOutOfBoundsException("No cell at (" + column + ", " + row + ")");
+        }
+        return index;
+    }
+}
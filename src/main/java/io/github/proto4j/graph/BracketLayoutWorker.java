@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import javax.swing.*;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Computes {@code BracketLayout}s of a {@code JBracketView} on a background
+ * executor and hands the result over to the event dispatch thread.
+ * <p>
+ * There is at most one running computation per worker. Requests that arrive
+ * while a layout is being computed replace each other, so that only the
+ * latest state is laid out once the running computation has finished.
+ * Virtual threads are used if the running JVM supports them.
+ */
+final class BracketLayoutWorker {
+
+    private static final Executor EXECUTOR = createExecutor();
+
+    private final Consumer<BracketLayout> target;
+
+    // guarded by this
+    private Request next;
+    private boolean running;
+
+    /**
+     * Creates a new worker that passes all computed layouts to the given
+     * consumer on the event dispatch thread.
+     *
+     * @param target the consumer of computed layouts
+     */
+    BracketLayoutWorker(Consumer<BracketLayout> target) {
+        this.target = target;
+    }
+
+    /**
+     * Requests a new layout. The constraints are copied immediately, so
+     * that changes made after this call don't affect the computation.
+     *
+     * @param model the model to lay out
+     * @param locator the current locator
+     * @param constraints the current constraints
+     */
+    void request(BracketModel<?> model, BracketLocator locator, BracketConstraints constraints) {
+        BracketConstraints copy = constraints.clone();
+        Request request = new Request(model, locator == constraints ? copy : locator,
+                                      copy, locator);
+        synchronized (this) {
+            next = request;
+            if (running) {
+                return;
+            }
+            running = true;
+        }
+        EXECUTOR.execute(this::run);
+    }
+
+    private void run() {
+        while (true) {
+            Request request;
+            synchronized (this) {
+                request = next;
+                next    = null;
+                if (request == null) {
+                    running = false;
+                    return;
+                }
+            }
+
+            try {
+                BracketLayout layout = BracketLayout.compute(request.model, request.locator,
+                                                             request.constraints, request.key);
+                SwingUtilities.invokeLater(() -> target.accept(layout));
+            } catch (RuntimeException e) {
+                // report the failure on the EDT like any other painting error
+                SwingUtilities.invokeLater(() -> {throw e;});
+            }
+        }
+    }
+
+    private static Executor createExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "BracketLayoutWorker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private static final class Request {
+        final BracketModel<?>    model;
+        final BracketLocator     locator;
+        final BracketConstraints constraints;
+        final BracketLocator     key;
+
+        Request(BracketModel<?> model, BracketLocator locator,
+                BracketConstraints constraints, BracketLocator key) {
+            this.model       = model;
+            this.locator     = locator;
+            this.constraints = constraints;
+            this.key         = key;
+        }
+    }
+}
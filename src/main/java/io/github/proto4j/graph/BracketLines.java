@@ -0,0 +1,314 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+/**
+ * Computes the geometry of the lines between the brackets/cells of a
+ * {@code BracketLayout}. This class doesn't depend on any UI toolkit: each
+ * line is an axis-aligned rectangle that is passed to a {@link LineSink},
+ * so the same geometry can be painted by Swing, written to a vector format
+ * or checked in a test without initialising AWT.
+ * <pre>
+ * {@code
+ *  BracketLayout layout = BracketLayout.compute(model, constraints, constraints);
+ *  BracketLines  lines  = new BracketLines(layout, constraints, constraints);
+ *  lines.line(column, row, (x, y, width, height) -> ...);
+ * }
+ * </pre>
+ * The shapes of the lines are described in {@link BracketUtil}, which is
+ * the Swing adapter of this class. Lines toward a bracket on the left, as
+ * in the right half of a {@link MirroredBracketLocator}, are mirrored, and
+ * all lines are transposed if the orientation of the constraints is
+ * {@link BracketConstraints#VERTICAL}.
+ * <p>
+ * Instances are immutable and can be used by any thread. The constraints
+ * are copied when the object is created.
+ *
+ * @see BracketUtil
+ * @see BracketLayout
+ */
+public final class BracketLines {
+
+    /**
+     * Receives the rectangles of the computed lines.
+     */
+    @FunctionalInterface
+    public interface LineSink {
+
+        /**
+         * Receives a line as a filled rectangle.
+         *
+         * @param x the X-position of the rectangle
+         * @param y the Y-position of the rectangle
+         * @param width the width of the rectangle
+         * @param height the height of the rectangle
+         */
+        void fillRect(int x, int y, int width, int height);
+    }
+
+    private final BracketLayout      layout;
+    private final BracketConstraints constraints;
+
+    // locator and constraints of the horizontal orientation, in which all
+    // lines are computed
+    private final BracketLocator     locator;
+    private final BracketConstraints horizontal;
+    private final boolean            vertical;
+
+    /**
+     * Creates the line geometry of the given layout.
+     *
+     * @param layout the layout containing the positions of all cells
+     * @param locator the locator of the layout, which computes the positions
+     *         of cells that are not part of the layout
+     * @param constraints the constraints of the layout
+     * @throws IllegalArgumentException if any of the arguments is {@code null}
+     */
+    public BracketLines(BracketLayout layout, BracketLocator locator, BracketConstraints constraints) {
+        if (layout == null || locator == null || constraints == null) {
+            throw new IllegalArgumentException("Layout, locator and constraints must be not null");
+        }
+        this.layout      = layout;
+        this.constraints = constraints.clone();
+        this.vertical    = constraints.isVertical();
+        this.horizontal  = vertical ? constraints.transpose() : this.constraints;
+        this.locator     = BracketLayout.getHorizontalLocator(
+                locator == constraints ? this.constraints : locator, this.constraints);
+    }
+
+    /**
+     * Returns the layout of this line geometry.
+     *
+     * @return the layout
+     */
+    public BracketLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Computes the lines of the given cell according to the {@code paintMode}
+     * of the constraints.
+     *
+     * @param column the current column
+     * @param row the current row
+     * @param sink receives the lines
+     * @throws IllegalStateException if the paint mode is unknown
+     */
+    public void line(int column, int row, LineSink sink) {
+        switch (constraints.paintMode) {
+            case BracketConstraints.BELOW: {
+                lineBelow(column, row, sink);
+                break;
+            }
+            case BracketConstraints.ABOVE: {
+                lineAbove(column, row, sink);
+                break;
+            }
+            case BracketConstraints.CENTER: {
+                lineCentered(column, row, sink);
+                break;
+            }
+            default:
+                throw new IllegalStateException("Unexpected mode: " + constraints.paintMode);
+        }
+    }
+
+    /**
+     * Computes a line above the next bracket.
+     *
+     * @param column the current column
+     * @param row the current row
+     * @param sink receives the lines
+     * @see BracketUtil#paintLineAbove(JBracketView, java.awt.Graphics, int, int)
+     */
+    public void lineAbove(int column, int row, LineSink sink) {
+        if (isLastColumn(column)) return;
+        if (isSplitPair(column, row)) {
+            lineStraight(column, row, sink);
+            return;
+        }
+
+        int direction = getDirection(column, row);
+        int baseX = getEdgeX(column, row, direction);
+        int baseY = getY(column, row) + (horizontal.bracketHeight / 2);
+
+        int width = horizontal.spaceX + (horizontal.bracketWidth / 2);
+        int lineX = getLineX(baseX, width, horizontal.lineThickness, direction);
+
+        int endY   = getY(column + 1, row / 2);
+        int height = endY - baseY;
+
+        fill(sink, getLineX(baseX, 0, width, direction), baseY, width, horizontal.lineThickness);
+        if (row % 2 == 0) {
+            fill(sink, lineX, baseY, horizontal.lineThickness, height + horizontal.lineThickness);
+        } else {
+            // correct the starting Y coordinate:
+            // Y-------+ -> The Y coordinate should be at the bottom left
+            // |Bracket|    edge of the bracket.
+            // +-------+
+            endY += horizontal.bracketHeight;
+
+            height = Math.max(height, baseY - endY);
+            fill(sink, lineX, endY, horizontal.lineThickness, height + horizontal.lineThickness);
+        }
+    }
+
+    /**
+     * Computes a centered line to the next bracket below the current one.
+     * Only brackets with even row indices produce lines.
+     *
+     * @param column the current column
+     * @param row the current row
+     * @param sink receives the lines
+     * @see BracketUtil#paintLineBelow(JBracketView, java.awt.Graphics, int, int)
+     */
+    public void lineBelow(int column, int row, LineSink sink) {
+        if (isLastColumn(column)) return;
+        if (isSplitPair(column, row)) {
+            lineStraight(column, row, sink);
+            return;
+        }
+        if (row % 2 != 0) return;
+
+        int direction = getDirection(column, row);
+        int baseX = getX(column, row) + (horizontal.bracketWidth / 2);
+        int baseY = getY(column, row) + horizontal.bracketHeight;
+
+        int endY   = getY(column, row + 1);
+        int height = endY - baseY;
+        int width  = (horizontal.bracketWidth / 2) + horizontal.spaceX;
+        int midY   = (baseY + endY) / 2;
+
+        fill(sink, baseX, baseY, horizontal.lineThickness, height);
+        fill(sink, getLineX(baseX, 0, width, direction), midY, width, horizontal.lineThickness);
+    }
+
+    /**
+     * Computes a centered line to the next bracket. Only brackets with even
+     * row indices produce lines.
+     *
+     * @param column the current column
+     * @param row the current row
+     * @param sink receives the lines
+     * @see BracketUtil#paintLineCentered(JBracketView, java.awt.Graphics, int, int)
+     */
+    public void lineCentered(int column, int row, LineSink sink) {
+        if (isLastColumn(column)) return;
+        if (isSplitPair(column, row)) {
+            lineStraight(column, row, sink);
+            return;
+        }
+        if (row % 2 != 0) return;
+
+        int direction = getDirection(column, row);
+        int baseX = getEdgeX(column, row, direction);
+        int baseY = getY(column, row) + (horizontal.bracketHeight / 2);
+
+        int endY = getY(column, row + 1) + (horizontal.bracketHeight / 2);
+
+        int width     = horizontal.spaceX / 2;
+        int height    = (endY - baseY) + horizontal.lineThickness;
+        int thickness = horizontal.lineThickness;
+
+        fill(sink, getLineX(baseX, 0, width, direction), baseY, width, thickness);
+        fill(sink, getLineX(baseX, 0, width, direction), endY, width, thickness);
+
+        fill(sink, getLineX(baseX, width, thickness, direction), baseY, thickness, height);
+
+        fill(sink, getLineX(baseX, width, width, direction), (endY + baseY) / 2, width, thickness);
+    }
+
+    /**
+     * Computes a straight line from the given bracket to the next bracket.
+     *
+     * @param column the current column
+     * @param row the current row
+     * @param sink receives the lines
+     * @see BracketUtil#paintLineStraight(JBracketView, java.awt.Graphics, int, int)
+     */
+    public void lineStraight(int column, int row, LineSink sink) {
+        if (isLastColumn(column)) return;
+
+        int direction = getDirection(column, row);
+        int baseX = getEdgeX(column, row, direction);
+        int baseY = getY(column, row) + (horizontal.bracketHeight / 2);
+        int endX  = getEdgeX(column + 1, row / 2, -direction);
+
+        fill(sink, Math.min(baseX, endX), baseY, Math.abs(endX - baseX), horizontal.lineThickness);
+    }
+
+    private boolean isLastColumn(int column) {
+        return column >= layout.getColumnCount() - 1;
+    }
+
+    // 1 if the next bracket is placed on the right, -1 if it is placed on
+    // the left, as in the right half of a mirrored layout
+    private int getDirection(int column, int row) {
+        return getX(column + 1, row / 2) < getX(column, row) ? -1 : 1;
+    }
+
+    // whether the bracket and its partner are placed on different sides of
+    // the next bracket
+    private boolean isSplitPair(int column, int row) {
+        return getDirection(column, row) != getDirection(column, row ^ 1);
+    }
+
+    // the vertical edge of the bracket that faces the given direction
+    private int getEdgeX(int column, int row, int direction) {
+        int x = getX(column, row);
+        return direction > 0 ? x + horizontal.bracketWidth : x;
+    }
+
+    // the left X-coordinate of a line with the given length, which starts at
+    // the given offset from baseX in the given direction
+    private static int getLineX(int baseX, int offset, int length, int direction) {
+        return direction > 0 ? baseX + offset : baseX - offset - length;
+    }
+
+    // Positions are taken from the layout. Cells that are not part of the
+    // layout (for instance the missing partner of a bye) are computed by
+    // the locator.
+    private int getX(int column, int row) {
+        if (layout.getCellIndex(column, row) != -1) {
+            return vertical ? layout.getY(column, row) : layout.getX(column, row);
+        }
+        return locator.getX(column, row, horizontal);
+    }
+
+    private int getY(int column, int row) {
+        if (layout.getCellIndex(column, row) != -1) {
+            return vertical ? layout.getX(column, row) : layout.getY(column, row);
+        }
+        return locator.getY(column, row, horizontal);
+    }
+
+    private void fill(LineSink sink, int x, int y, int width, int height) {
+        if (vertical) {
+            sink.fillRect(y, x, height, width);
+        } else {
+            sink.fillRect(x, y, width, height);
+        }
+    }
+}
@@ -56,6 +56,9 @@ package io.github.proto4j.graph;//@date 12.01.2023
  * }
  * </pre>
  *
+ * Locators for Swiss-system rounds and round-robin crosstables are
+ * provided by {@link SwissBracketLocator} and {@link RoundRobinBracketLocator}.
+ *
  * @see BracketConstraints
  * @see JBracketView
  */
@@ -91,6 +94,21 @@ public interface BracketLocator {
      */
     public int getX(final int column, BracketConstraints constraints);
 
+    /**
+     * Computes the relative X-position of the given cell/bracket. Locators
+     * that place the cells of one column at different X-positions, like the
+     * {@link MirroredBracketLocator}, override this method. By default, the
+     * X-position of the column is returned.
+     *
+     * @param column the column index
+     * @param row the cell's row index
+     * @param constraints the current bracket constraints
+     * @return the relative X-position of the given cell/bracket
+     */
+    public default int getX(final int column, final int row, BracketConstraints constraints) {
+        return getX(column, constraints);
+    }
+
     /**
      * Computes the relative Y-Position of the given cell/bracket.
      *
@@ -100,4 +118,21 @@ public interface BracketLocator {
      * @return the relative Y-Position of the given cell/bracket
      */
     public int getY(final int column, final int row, BracketConstraints constraints);
+
+    /**
+     * Returns a stamp that changes whenever the positions computed by this
+     * locator change without a change of the constraints, for instance
+     * because they depend on the standings of a model. A
+     * {@code BracketLayout} that has been computed with a different stamp is
+     * no longer valid.
+     * <p>
+     * Locators that only depend on the constraints return {@code 0}, which
+     * is what the default implementation does.
+     *
+     * @return the current layout stamp
+     * @see BracketLayout#isValid(BracketLocator, BracketConstraints)
+     */
+    public default long getLayoutStamp() {
+        return 0;
+    }
 }
@@ -66,4 +66,22 @@ public interface BracketModel<T> {
      * @see #getValueAt
      */
     void setValueAt(T value, int columnIndex, int rowIndex);
+
+    /**
+     * Adds a listener to the list that is notified each time a change to
+     * the data model occurs. Models that never change may ignore listeners,
+     * which is what the default implementation does.
+     *
+     * @param l the {@code BracketModelListener}
+     * @see AbstractBracketModel
+     */
+    default void addBracketModelListener(BracketModelListener l) {}
+
+    /**
+     * Removes a listener from the list that is notified each time a change
+     * to the data model occurs.
+     *
+     * @param l the {@code BracketModelListener}
+     */
+    default void removeBracketModelListener(BracketModelListener l) {}
 }
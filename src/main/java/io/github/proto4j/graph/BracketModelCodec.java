@@ -0,0 +1,370 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Reads and writes the content of a {@code BracketModel} in a compact binary
+ * format. The values of each cell are converted by a pluggable
+ * {@code BracketElementCodec}.
+ * <p>
+ * The format consists of the following parts:
+ * <pre>
+ *     int    magic ('BRKT')
+ *     byte   version
+ *     varint columnCount
+ *     varint rowCount[columnCount]
+ *     cell   cells[]               // column by column
+ *     int    columnStart[columnCount]
+ *     int    columnTableStart
+ *
+ *     cell := varint 0             // null value
+ *           | varint (length + 1) byte[length]
+ * </pre>
+ * All positions are relative to the start of the encoding. The trailing
+ * column table is not needed to decode the whole model. It allows readers
+ * to locate single columns without scanning all cells before them.
+ * <p>
+ * Decoding fills the columns of a {@code DefaultBracketModel} in bulk,
+ * without calling {@code setValueAt} for every cell.
+ *
+ * @param <E> the type of values stored in the encoded models
+ * @see BracketElementCodec
+ */
+public final class BracketModelCodec<E> {
+
+    /**
+     * The magic number at the start of each encoded model ('BRKT').
+     */
+    public static final int MAGIC = 0x42524B54;
+
+    /**
+     * The current version of the binary format.
+     */
+    public static final byte VERSION = 1;
+
+    private final BracketElementCodec<E> elementCodec;
+
+    /**
+     * Creates a new {@code BracketModelCodec} that uses the given codec to
+     * convert cell values.
+     *
+     * @param elementCodec the codec for cell values
+     * @throws IllegalArgumentException if the element codec is {@code null}
+     */
+    public BracketModelCodec(BracketElementCodec<E> elementCodec) {
+        if (elementCodec == null) {
+            throw new IllegalArgumentException("ElementCodec must be not null");
+        }
+        this.elementCodec = elementCodec;
+    }
+
+    /**
+     * Returns the codec used to convert cell values.
+     *
+     * @return the element codec
+     */
+    public BracketElementCodec<E> getElementCodec() {
+        return elementCodec;
+    }
+
+    /**
+     * Returns the amount of bytes needed to encode the given model.
+     *
+     * @param model the model to encode
+     * @return the encoded size in bytes
+     */
+    public int encodedSize(BracketModel<? extends E> model) {
+        int columnCount = model.getColumnCount();
+        long size = Integer.BYTES + 1 + varIntSize(columnCount)
+                + (long) Integer.BYTES * (columnCount + 1);
+
+        for (int i = 0; i < columnCount; i++) {
+            int rowCount = model.getRowCount(i);
+            size += varIntSize(rowCount);
+            for (int j = 0; j < rowCount; j++) {
+                size += cellSize(model.getValueAt(i, j));
+            }
+        }
+
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Model too large: " + size + " bytes");
+        }
+        return (int) size;
+    }
+
+    /**
+     * Writes the given model into the buffer, starting at its current
+     * position.
+     *
+     * @param model the model to encode
+     * @param dst the buffer to write to
+     * @throws java.nio.BufferOverflowException if the buffer has less than
+     *                                          {@link #encodedSize(BracketModel)}
+     *                                          bytes remaining
+     */
+    public void encode(BracketModel<? extends E> model, ByteBuffer dst) {
+        int start       = dst.position();
+        int columnCount = model.getColumnCount();
+        int[] rowCounts = new int[columnCount];
+
+        dst.putInt(MAGIC);
+        dst.put(VERSION);
+        putVarInt(dst, columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            rowCounts[i] = model.getRowCount(i);
+            putVarInt(dst, rowCounts[i]);
+        }
+
+        int[] columnStarts = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnStarts[i] = dst.position() - start;
+            for (int j = 0; j < rowCounts[i]; j++) {
+                encodeCell(model.getValueAt(i, j), dst);
+            }
+        }
+
+        int tableStart = dst.position() - start;
+        for (int columnStart : columnStarts) {
+            dst.putInt(columnStart);
+        }
+        dst.putInt(tableStart);
+    }
+
+    /**
+     * Reads a model from the given buffer, starting at its current position.
+     *
+     * @param src the buffer to read from
+     * @return a new {@code DefaultBracketModel} with the decoded content
+     * @throws IllegalArgumentException if the buffer doesn't contain an
+     *                                  encoded model
+     */
+    public DefaultBracketModel<E> decode(ByteBuffer src) {
+        int[] rowCounts = readHeader(src);
+
+        DefaultBracketModel<E> model = new DefaultBracketModel<>(rowCounts.length);
+        for (int i = 0; i < rowCounts.length; i++) {
+            @SuppressWarnings("unchecked")
+            E[] values = (E[]) new Object[rowCounts[i]];
+            for (int j = 0; j < values.length; j++) {
+                values[j] = decodeCell(src);
+            }
+            model.getColumn(i).addAll(Arrays.asList(values));
+        }
+
+        // skip the column table
+        src.position(src.position() + Integer.BYTES * (rowCounts.length + 1));
+        return model;
+    }
+
+    /**
+     * Writes the given model to a channel.
+     *
+     * @param model the model to encode
+     * @param channel the channel to write to
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(BracketModel<? extends E> model, WritableByteChannel channel)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(encodedSize(model));
+        encode(model, buffer);
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Reads a model from the current position of the given file channel up
+     * to its end with a single sequential read.
+     *
+     * @param channel the channel to read from
+     * @return a new {@code DefaultBracketModel} with the decoded content
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if the file doesn't contain an
+     *                                  encoded model
+     */
+    public DefaultBracketModel<E> read(FileChannel channel) throws IOException {
+        long size = channel.size() - channel.position();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("File too large: " + size + " bytes");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) {
+                break;
+            }
+        }
+        buffer.flip();
+        return decode(buffer);
+    }
+
+    /**
+     * Returns the encoded size of a single cell.
+     */
+    int cellSize(E value) {
+        if (value == null) {
+            return 1;
+        }
+        int length = elementCodec.sizeOf(value);
+        return varIntSize(length + 1) + length;
+    }
+
+    /**
+     * Encodes a single cell at the current position of the given buffer.
+     */
+    void encodeCell(E value, ByteBuffer dst) {
+        if (value == null) {
+            dst.put((byte) 0);
+        } else {
+            putVarInt(dst, elementCodec.sizeOf(value) + 1);
+            elementCodec.encode(value, dst);
+        }
+    }
+
+    /**
+     * Decodes a single cell at the current position of the given buffer.
+     */
+    E decodeCell(ByteBuffer src) {
+        int length = getVarInt(src) - 1;
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || length > src.remaining()) {
+            throw new IllegalArgumentException("Malformed cell: " + length + " bytes");
+        }
+
+        int end   = src.position() + length;
+        E   value = elementCodec.decode(src, length);
+        src.position(end);
+        return value;
+    }
+
+    /**
+     * Reads the header and returns the row count of each column. The
+     * position of the buffer will be set to the first cell.
+     */
+    static int[] readHeader(ByteBuffer src) {
+        if (src.remaining() < Integer.BYTES + 1 || src.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not an encoded bracket model");
+        }
+        byte version = src.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported version: " + version);
+        }
+
+        // every row count takes at least one byte, and so does every cell,
+        // which rejects corrupt counts before anything is allocated
+        int[] rowCounts = new int[getCount(src, src.remaining())];
+        long  cells     = 0;
+        for (int i = 0; i < rowCounts.length; i++) {
+            rowCounts[i] = getCount(src, src.remaining() - (rowCounts.length - i - 1));
+            cells += rowCounts[i];
+        }
+        if (cells > src.remaining()) {
+            throw new IllegalArgumentException("Malformed header: " + cells + " cells");
+        }
+        return rowCounts;
+    }
+
+    // reads a column or row count, which has to be in [0, max]
+    private static int getCount(ByteBuffer src, long max) {
+        if (!src.hasRemaining()) {
+            throw new IllegalArgumentException("Truncated header");
+        }
+        int count = getVarInt(src);
+        if (count < 0 || count > max) {
+            throw new IllegalArgumentException("Malformed header: count " + count);
+        }
+        return count;
+    }
+
+    static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    static void putVarInt(ByteBuffer dst, int value) {
+        while ((value & ~0x7F) != 0) {
+            dst.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        dst.put((byte) value);
+    }
+
+    static int varLongSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    static void putVarLong(ByteBuffer dst, long value) {
+        while ((value & ~0x7FL) != 0) {
+            dst.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        dst.put((byte) value);
+    }
+
+    static long getVarLong(ByteBuffer src) {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            byte b = src.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    static int getVarInt(ByteBuffer src) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (!src.hasRemaining()) {
+                throw new IllegalArgumentException("Truncated varint");
+            }
+            byte b = src.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import java.util.EventObject;
+
+/**
+ * {@code BracketModelEvent} is used to notify listeners that a bracket model
+ * has changed. The model event describes changes to a {@code BracketModel}
+ * and all references to rows and columns are in the coordinate system of the
+ * model.
+ * <p>
+ * Depending on the parameters used in the constructors, the
+ * {@code BracketModelEvent} can be used to specify the following types of
+ * changes:
+ * <pre>
+ * BracketModelEvent(source);              //  The data, ie. all cells changed
+ * BracketModelEvent(source, HEADER_ROW);  //  Structure change, reallocate all columns
+ * BracketModelEvent(source, 1, 1);        //  Cell (1, 1) changed
+ * BracketModelEvent(source, 2, 3, 6, INSERT); // Rows 3-6 were inserted in column 2
+ * BracketModelEvent(source, 3, HEADER_ROW, HEADER_ROW, INSERT); // Column 3 was inserted
+ * </pre>
+ *
+ * @see BracketModel
+ * @see BracketModelListener
+ */
+public class BracketModelEvent extends EventObject {
+
+    /**
+     * Identifies the addition of new rows or columns.
+     */
+    public static final int INSERT = 1;
+
+    /**
+     * Identifies a change to existing data.
+     */
+    public static final int UPDATE = 0;
+
+    /**
+     * Identifies the removal of rows or columns.
+     */
+    public static final int DELETE = -1;
+
+    /**
+     * Identifies the header row, which is used to mark changes of the column
+     * structure rather than changes of single cells.
+     */
+    public static final int HEADER_ROW = -1;
+
+    /**
+     * Specifies all columns of the source model.
+     */
+    public static final int ALL_COLUMNS = -1;
+
+    /**
+     * The type of this event (one of {@link #INSERT}, {@link #UPDATE} or
+     * {@link #DELETE}).
+     */
+    protected int type;
+
+    /**
+     * The first row that has changed.
+     */
+    protected int firstRow;
+
+    /**
+     * The last row that has changed.
+     */
+    protected int lastRow;
+
+    /**
+     * The column of the changed cells or {@link #ALL_COLUMNS}.
+     */
+    protected int column;
+
+    /**
+     * All cell values in the source model may have changed. The structure
+     * of the model stays the same.
+     *
+     * @param source the {@code BracketModel} that has changed
+     */
+    public BracketModelEvent(BracketModel<?> source) {
+        this(source, ALL_COLUMNS, 0, Integer.MAX_VALUE, UPDATE);
+    }
+
+    /**
+     * All rows of the given column changed. If {@code column} is
+     * {@link #HEADER_ROW} (or {@link #ALL_COLUMNS}), the whole structure of
+     * the model has changed.
+     *
+     * @param source the {@code BracketModel} that has changed
+     * @param column the column that has changed
+     */
+    public BracketModelEvent(BracketModel<?> source, int column) {
+        this(source, column, column == HEADER_ROW ? HEADER_ROW : 0,
+             column == HEADER_ROW ? HEADER_ROW : Integer.MAX_VALUE, UPDATE);
+    }
+
+    /**
+     * The cell at the given column and row has been updated.
+     *
+     * @param source the {@code BracketModel} that has changed
+     * @param column the column of the changed cell
+     * @param row the row of the changed cell
+     */
+    public BracketModelEvent(BracketModel<?> source, int column, int row) {
+        this(source, column, row, row, UPDATE);
+    }
+
+    /**
+     * The cells in rows {@code firstRow} to {@code lastRow} (inclusive) of
+     * the given column have been inserted, updated or deleted.
+     *
+     * @param source the {@code BracketModel} that has changed
+     * @param column the column of the changed cells
+     * @param firstRow the first changed row
+     * @param lastRow the last changed row
+     * @param type the type of this event
+     */
+    public BracketModelEvent(BracketModel<?> source, int column, int firstRow,
+                             int lastRow, int type) {
+        super(source);
+        this.column   = column;
+        this.firstRow = firstRow;
+        this.lastRow  = lastRow;
+        this.type     = type;
+    }
+
+    /**
+     * Returns the column of this event or {@link #ALL_COLUMNS} if all columns
+     * are affected.
+     *
+     * @return the column index
+     */
+    public int getColumn() {
+        return column;
+    }
+
+    /**
+     * Returns the first row that changed. {@link #HEADER_ROW} means the
+     * column structure has changed.
+     *
+     * @return the first changed row
+     */
+    public int getFirstRow() {
+        return firstRow;
+    }
+
+    /**
+     * Returns the last row that changed.
+     *
+     * @return the last changed row
+     */
+    public int getLastRow() {
+        return lastRow;
+    }
+
+    /**
+     * Returns the type of this event: one of {@link #INSERT},
+     * {@link #UPDATE} or {@link #DELETE}.
+     *
+     * @return the event type
+     */
+    public int getType() {
+        return type;
+    }
+
+    /**
+     * Returns whether this event changes the shape of the source model,
+     * that is, whether rows or columns have been inserted or removed.
+     *
+     * @return {@code true} if the structure of the model has changed
+     */
+    public boolean isStructureChange() {
+        return type != UPDATE || firstRow == HEADER_ROW;
+    }
+}
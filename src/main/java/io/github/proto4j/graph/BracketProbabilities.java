@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The result of a {@code BracketSimulation}, which stores the probability
+ * of each entrant to reach each column of the bracket. Entrants are
+ * addressed by their row in the first column (their slot).
+ * <p>
+ * Instances are immutable and can be read by a {@code BracketCellRenderer}
+ * to display the odds of the entrant in a cell:
+ * <pre>
+ * {@code
+ *  double odds = probabilities.getProbability(value, column);
+ * }
+ * </pre>
+ *
+ * @param <E> the data type of the entrants
+ * @see BracketSimulation
+ */
+public final class BracketProbabilities<E> {
+
+    private final Object[] entrants;
+    private final int      columnCount;
+    private final long[]   counts;
+    private final int      simulations;
+
+    private final Map<Object, Integer> slots = new HashMap<>();
+
+    BracketProbabilities(Object[] entrants, int columnCount, long[] counts, int simulations) {
+        this.entrants    = entrants;
+        this.columnCount = columnCount;
+        this.counts      = counts;
+        this.simulations = simulations;
+        for (int i = 0; i < entrants.length; i++) {
+            if (entrants[i] != null) {
+                slots.putIfAbsent(entrants[i], i);
+            }
+        }
+    }
+
+    /**
+     * Returns the amount of simulated tournaments.
+     *
+     * @return the simulation count
+     */
+    public int getSimulationCount() {
+        return simulations;
+    }
+
+    /**
+     * Returns the amount of slots in the first column.
+     *
+     * @return the slot count
+     */
+    public int getSlotCount() {
+        return entrants.length;
+    }
+
+    /**
+     * Returns the amount of columns of the simulated bracket.
+     *
+     * @return the column count
+     */
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    /**
+     * Returns the entrant placed at the given slot.
+     *
+     * @param slot the row in the first column
+     * @return the entrant, or {@code null} for a bye
+     */
+    public E getEntrant(int slot) {
+        @SuppressWarnings("unchecked")
+        E entrant = (E) entrants[slot];
+        return entrant;
+    }
+
+    /**
+     * Returns the slot of the given entrant.
+     *
+     * @param entrant the entrant to look up
+     * @return the row of the entrant in the first column, or {@code -1}
+     */
+    public int getSlot(Object entrant) {
+        Integer slot = entrant == null ? null : slots.get(entrant);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Returns how often the entrant at the given slot has reached the given
+     * column.
+     *
+     * @param slot the row in the first column
+     * @param column the column to reach
+     * @return the amount of simulations in which the column was reached
+     */
+    public long getCount(int slot, int column) {
+        if (slot < 0 || slot >= entrants.length || column < 0 || column >= columnCount) {
+            return 0;
+        }
+        return counts[column * entrants.length + slot];
+    }
+
+    /**
+     * Returns the probability that the entrant at the given slot reaches
+     * the given column.
+     *
+     * @param slot the row in the first column
+     * @param column the column to reach
+     * @return a probability between {@code 0} and {@code 1}
+     */
+    public double getProbability(int slot, int column) {
+        return getCount(slot, column) / (double) simulations;
+    }
+
+    /**
+     * Returns the probability that the given entrant reaches the given
+     * column.
+     *
+     * @param entrant the entrant
+     * @param column the column to reach
+     * @return a probability between {@code 0} and {@code 1}, or {@code 0}
+     *         if the entrant is not part of the bracket
+     */
+    public double getProbability(Object entrant, int column) {
+        return getProbability(getSlot(entrant), column);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.Arrays;
+
+/**
+ * Coalesces repaint requests of a {@code JBracketView} into at most one
+ * flush per frame. Model events only record the affected cells, which is
+ * cheap and may happen on any thread. The cell bounds are resolved on the
+ * event dispatch thread when the shared {@code Timer} fires.
+ * <p>
+ * If more than {@link #MAX_DIRTY_CELLS} distinct cells become dirty within
+ * one frame, the scheduler stops collecting cells and repaints the whole
+ * view instead. This keeps the cost of a flush constant, no matter how many
+ * updates arrive.
+ *
+ * @see JBracketView#setRepaintFrameRate(int)
+ */
+final class BracketRepaintScheduler implements ActionListener {
+
+    /**
+     * The default amount of flushes per second.
+     */
+    static final int DEFAULT_FRAME_RATE = 60;
+
+    /**
+     * The amount of dirty cells that will be collected before falling back
+     * to a repaint of the whole view.
+     */
+    static final int MAX_DIRTY_CELLS = 64;
+
+    private final JBracketView<?> view;
+    private final Timer           timer;
+
+    // all fields below are guarded by this lock
+    private final Object lock  = new Object();
+    private final long[] cells = new long[MAX_DIRTY_CELLS];
+
+    private int     cellCount;
+    private boolean repaintAll;
+    private boolean pending;
+
+    // only accessed on the EDT
+    private long lastFlush;
+    private int  frameRate = DEFAULT_FRAME_RATE;
+
+    BracketRepaintScheduler(JBracketView<?> view) {
+        this.view  = view;
+        this.timer = new Timer(0, this);
+        timer.setRepeats(false);
+        timer.setCoalesce(true);
+    }
+
+    int getFrameRate() {
+        return frameRate;
+    }
+
+    void setFrameRate(int frameRate) {
+        if (frameRate < 1) {
+            throw new IllegalArgumentException("FrameRate has to be > 0");
+        }
+        this.frameRate = frameRate;
+    }
+
+    /**
+     * Marks the cell at the given column and row as dirty.
+     *
+     * @param column the column index
+     * @param row the row index
+     */
+    void cellChanged(int column, int row) {
+        long    cell = ((long) column << 32) | (row & 0xFFFFFFFFL);
+        boolean schedule;
+        synchronized (lock) {
+            if (!repaintAll && !contains(cell)) {
+                if (cellCount == cells.length) {
+                    repaintAll = true;
+                    cellCount  = 0;
+                } else {
+                    cells[cellCount++] = cell;
+                }
+            }
+            schedule = !pending;
+            pending  = true;
+        }
+        if (schedule) {
+            schedule();
+        }
+    }
+
+    /**
+     * Marks the whole view as dirty.
+     */
+    void viewChanged() {
+        boolean schedule;
+        synchronized (lock) {
+            repaintAll = true;
+            cellCount  = 0;
+            schedule   = !pending;
+            pending    = true;
+        }
+        if (schedule) {
+            schedule();
+        }
+    }
+
+    /**
+     * Flushes the collected regions. Invoked by the timer on the EDT.
+     *
+     * @param e the timer event
+     */
+    @Override
+    public void actionPerformed(ActionEvent e) {
+        long[]  dirty;
+        boolean all;
+        synchronized (lock) {
+            all   = repaintAll;
+            dirty = all ? null : Arrays.copyOf(cells, cellCount);
+
+            cellCount  = 0;
+            repaintAll = false;
+            pending    = false;
+        }
+        lastFlush = System.nanoTime();
+
+        if (all) {
+            view.repaint();
+            return;
+        }
+
+        BracketConstraints bc  = view.getConstraints();
+        int                pad = bc == null ? 0 : bc.lineThickness;
+        for (long cell : dirty) {
+            Rectangle bounds = view.getCellBounds((int) (cell >> 32), (int) cell);
+            if (bounds != null) {
+                bounds.grow(pad, pad);
+                view.repaint(bounds);
+            }
+        }
+    }
+
+    private boolean contains(long cell) {
+        for (int i = 0; i < cellCount; i++) {
+            if (cells[i] == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void schedule() {
+        if (SwingUtilities.isEventDispatchThread()) {
+            startTimer();
+        } else {
+            SwingUtilities.invokeLater(this::startTimer);
+        }
+    }
+
+    private void startTimer() {
+        long frame = 1_000_000_000L / frameRate;
+        long delay = (lastFlush + frame - System.nanoTime()) / 1_000_000L;
+
+        timer.setInitialDelay((int) Math.max(0, Math.min(delay, 1000L)));
+        timer.restart();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import java.util.Arrays;
+
+/**
+ * Places ranked entrants into the first column of an elimination bracket
+ * using standard tournament seeding. The best seed meets the worst one in
+ * the first round (1 vs N, 2 vs N-1, ...), and the two best seeds can only
+ * meet in the final.
+ * <p>
+ * Fields whose size is not a power of two are padded with byes. A bye is
+ * represented by a {@code null} cell and is always paired with one of the
+ * best seeds, so that no two byes ever meet. For example, a field of six
+ * entrants is placed like this:
+ * <pre>
+ *     slot:  0  1  2  3  4  5  6  7
+ *     seed:  1  -  4  5  2  -  3  6
+ * </pre>
+ * All methods run in linear time, which allows brackets with a large amount
+ * of entrants to be created directly:
+ * <pre>
+ * {@code
+ *  String[] ranking = ...;
+ *  JBracketView<String> view = new JBracketView<>(BracketSeeding.createModel(ranking, true));
+ * }
+ * </pre>
+ *
+ * @see DefaultBracketModel
+ */
+public final class BracketSeeding {
+
+    // instance creation not allowed
+    private BracketSeeding() {}
+
+    /**
+     * Returns the size of the first column needed to seed the given amount
+     * of entrants, which is the smallest power of two that is greater than
+     * or equal to {@code entrants}.
+     *
+     * @param entrants the amount of entrants
+     * @return the row count of the first column
+     * @throws IllegalArgumentException if the amount of entrants is negative
+     *                                  or too large
+     */
+    public static int getBracketSize(int entrants) {
+        if (entrants < 0 || entrants > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid amount of entrants: " + entrants);
+        }
+        return entrants <= 1 ? 1 : Integer.highestOneBit(entrants - 1) << 1;
+    }
+
+    /**
+     * Returns the zero-based seed placed in each slot of a bracket with the
+     * given size. The returned array contains the slots in row order.
+     *
+     * @param bracketSize the row count of the first column
+     * @return the seed of each slot
+     * @throws IllegalArgumentException if the size is not a power of two
+     */
+    public static int[] getSeedOrder(int bracketSize) {
+        if (bracketSize < 1 || Integer.bitCount(bracketSize) != 1) {
+            throw new IllegalArgumentException("BracketSize has to be a power of 2");
+        }
+
+        // Each round doubles the field: the seed at slot i is followed by
+        // its opponent, so that every pair adds up to size - 1. The work
+        // sums up to less than 2 * bracketSize.
+        int[] order = new int[bracketSize];
+        for (int size = 1; size < bracketSize; size *= 2) {
+            for (int i = size - 1; i >= 0; i--) {
+                int seed = order[i];
+                order[2 * i]     = seed;
+                order[2 * i + 1] = 2 * size - 1 - seed;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Returns the row in which the opponent of the given row is placed.
+     *
+     * @param row the row of a cell in any column
+     * @return the row of the opponent in the same column
+     */
+    public static int getOpponentRow(int row) {
+        return row ^ 1;
+    }
+
+    /**
+     * Places the given entrants into the slots of the first column. The
+     * entrants have to be ordered by rank, starting with the best one.
+     * Missing entrants are filled with byes ({@code null}).
+     *
+     * @param ranking the entrants ordered by rank
+     * @param <E> the data type of the entrants
+     * @return a new array of {@link #getBracketSize(int)} slots
+     * @throws IllegalArgumentException if the given array is {@code null}
+     */
+    public static <E> E[] seed(E[] ranking) {
+        if (ranking == null) {
+            throw new IllegalArgumentException("Ranking must be not null");
+        }
+
+        int[] order = getSeedOrder(getBracketSize(ranking.length));
+        E[]   slots = Arrays.copyOf(ranking, order.length);
+        for (int i = 0; i < order.length; i++) {
+            slots[i] = order[i] < ranking.length ? ranking[order[i]] : null;
+        }
+        return slots;
+    }
+
+    /**
+     * Creates a new model for an elimination tournament with the given
+     * entrants seeded into the first column. Each following column has half
+     * the rows of the previous one.
+     * <p>
+     * If {@code advanceByes} is enabled, every entrant that is paired with a
+     * bye is placed into the second column right away.
+     *
+     * @param ranking the entrants ordered by rank
+     * @param advanceByes whether entrants without an opponent should advance
+     * @param <E> the data type of the entrants
+     * @return a new model containing the seeded entrants
+     * @throws IllegalArgumentException if the given array is {@code null}
+     */
+    public static <E> DefaultBracketModel<E> createModel(E[] ranking, boolean advanceByes) {
+        E[] slots = seed(ranking);
+
+        DefaultBracketModel.Builder<E> builder = new DefaultBracketModel.Builder<E>()
+                .addColumn(Arrays.asList(slots));
+        if (slots.length == 1) {
+            return builder.build();
+        }
+
+        E[] winners = Arrays.copyOf(slots, slots.length / 2);
+        for (int i = 0; i < winners.length; i++) {
+            // byes only ever occupy the second slot of a pair
+            winners[i] = advanceByes && slots[2 * i + 1] == null ? slots[2 * i] : null;
+        }
+        builder.addColumn(Arrays.asList(winners));
+
+        for (int rows = winners.length; rows > 1; ) {
+            rows /= 2;
+            builder.addColumn(rows);
+        }
+        return builder.build();
+    }
+}
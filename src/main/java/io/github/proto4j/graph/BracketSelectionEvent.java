@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import java.util.EventObject;
+
+/**
+ * Describes a change of a {@code BracketSelectionModel}. The event lists
+ * the flat indices of all cells whose selection state has changed, so that
+ * listeners only have to update these cells.
+ *
+ * @see BracketSelectionListener
+ */
+public class BracketSelectionEvent extends EventObject {
+
+    private final int[] indices;
+
+    /**
+     * Creates a new event.
+     *
+     * @param source the selection model that has changed
+     * @param indices the indices of all changed cells
+     */
+    public BracketSelectionEvent(Object source, int[] indices) {
+        super(source);
+        this.indices = indices;
+    }
+
+    /**
+     * Returns the flat indices of all cells that have been selected or
+     * deselected, in ascending order.
+     *
+     * @return the changed indices
+     */
+    public int[] getIndices() {
+        return indices.clone();
+    }
+}
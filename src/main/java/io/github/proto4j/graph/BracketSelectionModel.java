@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+/**
+ * Stores the selected cells of a {@code JBracketView}. Cells are addressed
+ * by their flat index in the {@code BracketLayout} of the view (see
+ * {@link BracketLayout#getCellIndex(int, int)}).
+ * <p>
+ * The following selection modes are supported:
+ * <ul>
+ *     <li>{@link #SINGLE_SELECTION}: only one cell can be selected</li>
+ *     <li>{@link #MULTIPLE_SELECTION}: any set of cells can be selected</li>
+ *     <li>{@link #PATH_SELECTION}: the selection is the path of a cell to
+ *     the final, which is computed by the view</li>
+ * </ul>
+ *
+ * @see DefaultBracketSelectionModel
+ * @see JBracketView#setSelectionModel(BracketSelectionModel)
+ */
+public interface BracketSelectionModel {
+
+    /**
+     * Only one cell can be selected at a time.
+     */
+    int SINGLE_SELECTION = 0;
+
+    /**
+     * Any amount of cells can be selected.
+     */
+    int MULTIPLE_SELECTION = 1;
+
+    /**
+     * Selecting a cell selects all cells on its way to the final. Every new
+     * selection replaces the previous path.
+     */
+    int PATH_SELECTION = 2;
+
+    /**
+     * Returns the current selection mode.
+     *
+     * @return one of the selection mode constants
+     */
+    int getSelectionMode();
+
+    /**
+     * Sets the selection mode. Changing the mode clears the selection.
+     *
+     * @param selectionMode one of the selection mode constants
+     * @throws IllegalArgumentException if the mode is not supported
+     */
+    void setSelectionMode(int selectionMode);
+
+    /**
+     * Returns whether the cell with the given index is selected.
+     *
+     * @param index the flat cell index
+     * @return {@code true} if the cell is selected
+     */
+    boolean isSelected(int index);
+
+    /**
+     * Returns whether no cell is selected.
+     *
+     * @return {@code true} if the selection is empty
+     */
+    boolean isSelectionEmpty();
+
+    /**
+     * Returns the indices of all selected cells in ascending order.
+     *
+     * @return the selected indices
+     */
+    int[] getSelectedIndices();
+
+    /**
+     * Replaces the current selection with the given cells. In single
+     * selection mode, only the last index will be selected.
+     *
+     * @param indices the flat cell indices to select
+     */
+    void setSelection(int... indices);
+
+    /**
+     * Adds the given cells to the current selection. This has the same
+     * effect as {@link #setSelection(int...)} unless the model is in
+     * multiple selection mode.
+     *
+     * @param indices the flat cell indices to select
+     */
+    void addSelection(int... indices);
+
+    /**
+     * Removes the given cells from the current selection.
+     *
+     * @param indices the flat cell indices to deselect
+     */
+    void removeSelection(int... indices);
+
+    /**
+     * Deselects all cells.
+     */
+    void clearSelection();
+
+    /**
+     * Adds a listener that is notified each time the selection changes.
+     *
+     * @param l the {@code BracketSelectionListener}
+     */
+    void addBracketSelectionListener(BracketSelectionListener l);
+
+    /**
+     * Removes a listener that is notified each time the selection changes.
+     *
+     * @param l the {@code BracketSelectionListener}
+     */
+    void removeBracketSelectionListener(BracketSelectionListener l);
+}
@@ -0,0 +1,272 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Runs Monte-Carlo simulations of an elimination tournament described by a
+ * {@code BracketModel} and counts how often each entrant reaches each
+ * column.
+ * <p>
+ * The entrants are taken from the first column. The winner of the cells at
+ * {@code (column, 2 * row)} and {@code (column, 2 * row + 1)} advances to
+ * {@code (column + 1, row)}, which is the structure created by
+ * {@link BracketSeeding} and the elimination constructors of
+ * {@code JBracketView}. {@code null} cells of the first column are byes.
+ * <p>
+ * Cells of later columns that already contain an entrant are treated as
+ * decided matches. A decided entrant wins every match on its way to that
+ * cell in every simulated tournament, even if the cells of the earlier
+ * columns are still empty, so all probabilities are conditioned on the
+ * decided matches. Entrants that can't reach the cell they are decided for
+ * are ignored, and if decided results contradict each other, the result
+ * of the later column wins.
+ * <p>
+ * The outcome of a single match is given by a function that returns the
+ * probability that its first argument beats the second one:
+ * <pre>
+ * {@code
+ *  BracketSimulation<Team> simulation = new BracketSimulation<>(model,
+ *          (a, b) -> a.getRating() / (double) (a.getRating() + b.getRating()));
+ *  BracketProbabilities<Team> odds = simulation.run(1_000_000);
+ * }
+ * </pre>
+ * The model and all match probabilities are read once when the simulation
+ * is created. The simulations themselves only work on primitive arrays and
+ * are split across the common fork-join pool.
+ *
+ * @param <E> the data type of the entrants
+ * @see BracketProbabilities
+ */
+public class BracketSimulation<E> {
+
+    /**
+     * The maximum amount of entrants. The probabilities of all pairs of
+     * entrants are stored up front, which takes about 64 MB for the largest
+     * supported tournament.
+     */
+    public static final int MAX_ENTRANTS = 1 << 12;
+
+    // the amount of simulations a single task runs without splitting
+    private static final int THRESHOLD = 4096;
+
+    private final Object[] entrants;
+    private final int[]    rowCounts;
+    // the slot of the forced winner per cell of column > 0, or -1
+    private final int[][]  fixedWinners;
+    // probability that slot i beats slot j at pairStarts[i] + j, for i < j
+    private final double[] probabilities;
+    private final int[]    pairStarts;
+
+    /**
+     * Creates a new simulation for the current state of the given model.
+     *
+     * @param model the model to simulate
+     * @param outcome the probability that the first entrant wins a match
+     *         against the second one
+     * @throws IllegalArgumentException if any argument is {@code null},
+     *                                  the model has no columns or more
+     *                                  than {@link #MAX_ENTRANTS} entrants
+     */
+    public BracketSimulation(BracketModel<? extends E> model,
+                             ToDoubleBiFunction<? super E, ? super E> outcome) {
+        if (model == null || outcome == null) {
+            throw new IllegalArgumentException("Model and outcome must be not null");
+        }
+        if (model.getColumnCount() == 0) {
+            throw new IllegalArgumentException("Model has no columns");
+        }
+
+        int n = model.getRowCount(0);
+        if (n > MAX_ENTRANTS) {
+            throw new IllegalArgumentException("Too many entrants: " + n);
+        }
+        entrants = new Object[n];
+        Map<Object, Integer> slots = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            entrants[i] = model.getValueAt(0, i);
+            if (entrants[i] != null) {
+                slots.putIfAbsent(entrants[i], i);
+            }
+        }
+
+        rowCounts    = new int[model.getColumnCount()];
+        fixedWinners = new int[rowCounts.length][];
+        rowCounts[0] = n;
+        for (int i = 1; i < rowCounts.length; i++) {
+            rowCounts[i]    = model.getRowCount(i);
+            fixedWinners[i] = new int[rowCounts[i]];
+            Arrays.fill(fixedWinners[i], -1);
+        }
+        // the slot s plays at row s >> k of column k, so a decided entrant
+        // is forced through all cells on its way; later columns overwrite
+        // the paths of earlier ones
+        for (int i = 1; i < rowCounts.length; i++) {
+            for (int j = 0; j < rowCounts[i]; j++) {
+                Integer slot = slots.get(model.getValueAt(i, j));
+                if (slot != null && i < Integer.SIZE && slot >> i == j) {
+                    for (int k = 1; k <= i; k++) {
+                        if (slot >> k < rowCounts[k]) {
+                            fixedWinners[k][slot >> k] = slot;
+                        }
+                    }
+                }
+            }
+        }
+
+        // only the pairs i < j are stored, row by row
+        pairStarts    = new int[n];
+        probabilities = new double[n * (n - 1) / 2];
+        for (int i = 0; i < n; i++) {
+            pairStarts[i] = i * (2 * n - i - 1) / 2 - i - 1;
+            if (entrants[i] == null) {
+                continue;
+            }
+            @SuppressWarnings("unchecked")
+            E a = (E) entrants[i];
+            for (int j = i + 1; j < n; j++) {
+                if (entrants[j] != null) {
+                    @SuppressWarnings("unchecked")
+                    E b = (E) entrants[j];
+                    probabilities[pairStarts[i] + j] = outcome.applyAsDouble(a, b);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the given amount of simulations with a random seed.
+     *
+     * @param simulations the amount of simulated tournaments
+     * @return the probabilities of all entrants to reach each column
+     * @throws IllegalArgumentException if the amount is not positive
+     */
+    public BracketProbabilities<E> run(int simulations) {
+        return run(simulations, new SplittableRandom());
+    }
+
+    /**
+     * Runs the given amount of simulations. Using the same seed produces the
+     * same result for the same model.
+     *
+     * @param simulations the amount of simulated tournaments
+     * @param seed the seed of the random number generator
+     * @return the probabilities of all entrants to reach each column
+     * @throws IllegalArgumentException if the amount is not positive
+     */
+    public BracketProbabilities<E> run(int simulations, long seed) {
+        return run(simulations, new SplittableRandom(seed));
+    }
+
+    private BracketProbabilities<E> run(int simulations, SplittableRandom random) {
+        if (simulations < 1) {
+            throw new IllegalArgumentException("Simulations have to be > 0");
+        }
+
+        long[] counts = ForkJoinPool.commonPool()
+                                    .invoke(new SimulationTask(simulations, random));
+        for (int i = 0; i < entrants.length; i++) {
+            counts[i] = entrants[i] != null ? simulations : 0;
+        }
+        return new BracketProbabilities<>(entrants, rowCounts.length, counts, simulations);
+    }
+
+    // Simulates the given amount of tournaments and adds the column reached
+    // by each entrant to the counts, which are stored at column * n + slot.
+    private void simulate(int simulations, SplittableRandom random, long[] counts) {
+        int   n       = entrants.length;
+        int[] winners = new int[n];
+
+        for (int s = 0; s < simulations; s++) {
+            for (int i = 0; i < n; i++) {
+                winners[i] = entrants[i] != null ? i : -1;
+            }
+
+            int size = n;
+            for (int column = 1; column < rowCounts.length; column++) {
+                int[] fixed = fixedWinners[column];
+                int   rows  = rowCounts[column];
+                for (int row = 0; row < rows; row++) {
+                    int a = 2 * row < size ? winners[2 * row] : -1;
+                    int b = 2 * row + 1 < size ? winners[2 * row + 1] : -1;
+
+                    int winner;
+                    if (fixed[row] != -1 && (fixed[row] == a || fixed[row] == b)) {
+                        winner = fixed[row];
+                    } else if (a == -1 || b == -1) {
+                        winner = a == -1 ? b : a;
+                    } else {
+                        // a always comes from a lower slot than b
+                        winner = random.nextDouble() < probabilities[pairStarts[a] + b] ? a : b;
+                    }
+
+                    winners[row] = winner;
+                    if (winner != -1) {
+                        counts[column * n + winner]++;
+                    }
+                }
+                size = rows;
+            }
+        }
+    }
+
+    private final class SimulationTask extends RecursiveTask<long[]> {
+        private final int              simulations;
+        private final SplittableRandom random;
+
+        SimulationTask(int simulations, SplittableRandom random) {
+            this.simulations = simulations;
+            this.random      = random;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (simulations <= THRESHOLD) {
+                long[] counts = new long[rowCounts.length * entrants.length];
+                simulate(simulations, random, counts);
+                return counts;
+            }
+
+            int half = simulations / 2;
+            SimulationTask left  = new SimulationTask(half, random.split());
+            SimulationTask right = new SimulationTask(simulations - half, random);
+            left.fork();
+
+            long[] counts = right.compute();
+            long[] other  = left.join();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other[i];
+            }
+            return counts;
+        }
+    }
+}
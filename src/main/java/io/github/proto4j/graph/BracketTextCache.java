@@ -0,0 +1,240 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.Rectangle2D;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Caches shaped texts, so that texts which are painted again and again,
+ * like the name of a team in every column it reaches, are only laid out
+ * once. Each text is stored as a {@code GlyphVector} together with its
+ * logical bounds, keyed by the text, the font and the
+ * {@code FontRenderContext}. The render context carries the rendering hints
+ * that affect the shape of a text, i.e. text antialiasing and fractional
+ * metrics, and the transform of the graphics context.
+ * <p>
+ * Every {@code JBracketView} has a text cache that is shared by its
+ * painters (see {@link JBracketView#getTextCache()}), and views can share a
+ * single cache:
+ * <pre>
+ * {@code
+ *  public void paintCell(Graphics2D g, JBracketView<? extends Game> view, Game value, ...) {
+ *      BracketTextCache texts = view.getTextCache();
+ *      texts.drawString(g, value.getHome(), view.getFont(), bounds.x + 4, bounds.y + 15);
+ *  }
+ * }
+ * </pre>
+ * The cache holds at most the given amount of texts and evicts the least
+ * recently used ones. Instances are thread-safe; texts are shaped without
+ * holding the lock, and the cached glyph vectors are fully initialised
+ * before they are shared.
+ *
+ * @see MatchCellPainter
+ */
+public final class BracketTextCache {
+
+    /**
+     * The default amount of cached texts.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final int capacity;
+
+    // guarded by itself
+    private final Map<Key, Text> texts;
+
+    /**
+     * Creates a new cache with the {@linkplain #DEFAULT_CAPACITY default
+     * capacity}.
+     */
+    public BracketTextCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new cache that holds at most the given amount of texts.
+     *
+     * @param capacity the maximum amount of cached texts
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public BracketTextCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity has to be > 0");
+        }
+        this.capacity = capacity;
+        this.texts    = new LinkedHashMap<Key, Text>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Text> eldest) {
+                return size() > BracketTextCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the maximum amount of cached texts.
+     *
+     * @return the capacity of this cache
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the shaped glyphs of the given text. The returned vector is
+     * shared and must not be modified.
+     *
+     * @param text the text to shape
+     * @param font the font of the text
+     * @param frc the render context of the graphics context the text is
+     *         painted in
+     * @return the glyph vector of the text
+     * @throws IllegalArgumentException if any argument is {@code null}
+     */
+    public GlyphVector getGlyphVector(String text, Font font, FontRenderContext frc) {
+        return get(text, font, frc).glyphs;
+    }
+
+    /**
+     * Returns the logical bounds of the given text, relative to the origin
+     * of its baseline. The returned rectangle is shared and must not be
+     * modified.
+     *
+     * @param text the text to measure
+     * @param font the font of the text
+     * @param frc the render context of the graphics context the text is
+     *         painted in
+     * @return the logical bounds of the text
+     * @throws IllegalArgumentException if any argument is {@code null}
+     * @see GlyphVector#getLogicalBounds()
+     */
+    public Rectangle2D getLogicalBounds(String text, Font font, FontRenderContext frc) {
+        return get(text, font, frc).bounds;
+    }
+
+    /**
+     * Draws the given text with its baseline at the given position.
+     *
+     * @param g the graphics context to paint in
+     * @param text the text to draw
+     * @param font the font of the text
+     * @param x the X-position of the baseline
+     * @param y the Y-position of the baseline
+     * @throws IllegalArgumentException if any argument is {@code null}
+     */
+    public void drawString(Graphics2D g, String text, Font font, float x, float y) {
+        g.drawGlyphVector(getGlyphVector(text, font, g.getFontRenderContext()), x, y);
+    }
+
+    /**
+     * Returns the amount of cached texts.
+     *
+     * @return the size of this cache
+     */
+    public int size() {
+        synchronized (texts) {
+            return texts.size();
+        }
+    }
+
+    /**
+     * Removes all cached texts.
+     */
+    public void clear() {
+        synchronized (texts) {
+            texts.clear();
+        }
+    }
+
+    Text get(String text, Font font, FontRenderContext frc) {
+        if (text == null || font == null || frc == null) {
+            throw new IllegalArgumentException("Text, font and render context must be not null");
+        }
+
+        Key  key = new Key(text, font, frc);
+        Text value;
+        synchronized (texts) {
+            value = texts.get(key);
+        }
+        if (value == null) {
+            value = new Text(font.createGlyphVector(frc, text));
+            synchronized (texts) {
+                texts.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * A shaped text and its logical bounds.
+     */
+    static final class Text {
+        final GlyphVector glyphs;
+        final Rectangle2D bounds;
+
+        Text(GlyphVector glyphs) {
+            // compute the lazily initialised positions before the vector
+            // is shared
+            glyphs.getGlyphPositions(0, glyphs.getNumGlyphs(), null);
+            this.glyphs = glyphs;
+            this.bounds = glyphs.getLogicalBounds();
+        }
+    }
+
+    /**
+     * The key of a cached text.
+     */
+    private static final class Key {
+        final String            text;
+        final Font              font;
+        final FontRenderContext frc;
+        final int               hash;
+
+        Key(String text, Font font, FontRenderContext frc) {
+            this.text = text;
+            this.font = font;
+            this.frc  = frc;
+            this.hash = Objects.hash(text, font, frc);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return text.equals(key.text) && font.equals(key.font) && frc.equals(key.frc);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
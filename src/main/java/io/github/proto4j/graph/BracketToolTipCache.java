@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Caches the tooltip texts of a {@code JBracketView} by flat cell index.
+ * Entries are removed when the model reports a change of their cell, and
+ * the whole cache is dropped when the view gets a new layout, because the
+ * cell indices may have changed.
+ */
+final class BracketToolTipCache {
+
+    // marks cells without a tooltip
+    private static final String NONE = new String();
+
+    // all fields are guarded by this
+    private BracketLayout layout;
+    private String[]      texts;
+
+    /**
+     * Returns the cached text of the cell with the given index, or computes
+     * and caches it if necessary.
+     *
+     * @param layout the layout the index refers to
+     * @param index the flat cell index
+     * @param text computes the text of the cell
+     * @return the tooltip text or {@code null}
+     */
+    synchronized String get(BracketLayout layout, int index, Supplier<String> text) {
+        if (this.layout != layout || texts == null) {
+            this.layout = layout;
+            this.texts  = new String[layout.getCellCount()];
+        }
+
+        String value = texts[index];
+        if (value == null) {
+            value = text.get();
+            texts[index] = value == null ? NONE : value;
+        }
+        return value == NONE ? null : value;
+    }
+
+    /**
+     * Removes the cached texts of the given rows.
+     *
+     * @param column the column index
+     * @param firstRow the first row
+     * @param lastRow the last row (inclusive)
+     */
+    synchronized void invalidate(int column, int firstRow, int lastRow) {
+        if (texts == null) {
+            return;
+        }
+        int from = layout.getCellIndex(column, Math.max(0, firstRow));
+        if (from == -1) {
+            return;
+        }
+        int count = Math.min(lastRow, layout.getRowCount(column) - 1) - Math.max(0, firstRow) + 1;
+        if (count > 0) {
+            Arrays.fill(texts, from, from + count, null);
+        }
+    }
+
+    /**
+     * Removes all cached texts.
+     */
+    synchronized void invalidateAll() {
+        texts  = null;
+        layout = null;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+/**
+ * Provides the tooltip text for single cells of a {@code JBracketView}. The
+ * view resolves the cell under the mouse through its layout and passes the
+ * column, row and value of that cell to the provider:
+ * <pre>
+ * {@code
+ *  view.setToolTipProvider((view, game, column, row) ->
+ *          game == null ? null : game.getHome() + " vs. " + game.getGuest());
+ * }
+ * </pre>
+ * The returned text is cached per cell until the model reports a change of
+ * that cell, so providers are only called once per cell and value.
+ *
+ * @param <E> the type of values this provider can be used for
+ * @see JBracketView#setToolTipProvider(BracketToolTipProvider)
+ */
+public interface BracketToolTipProvider<E> {
+
+    /**
+     * Returns the tooltip text for the given cell.
+     *
+     * @param bracketView the {@code JBracketView} that displays the tooltip
+     * @param value the value at the given column and row index
+     * @param columnIndex the column index
+     * @param rowIndex the cells row index
+     * @return the tooltip text, or {@code null} if no tooltip should be
+     *         shown for the cell
+     */
+    String getToolTipText(JBracketView<? extends E> bracketView, E value,
+                          int columnIndex, int rowIndex);
+}
@@ -0,0 +1,244 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.Transferable;
+import java.awt.datatransfer.UnsupportedFlavorException;
+import java.awt.image.BufferedImage;
+
+/**
+ * The default {@code TransferHandler} of a {@code JBracketView}, which
+ * allows cells to be reseeded by drag and drop. Dropping a cell onto another
+ * cell of the same column swaps both values through the model with two
+ * calls to {@link BracketModel#setValueAt(Object, int, int)}.
+ * <p>
+ * Only drags within the same view are supported. While dragging, the view
+ * only repaints the source and the current target cell with their
+ * connectors, and the dragged cell is shown as an image that is rendered
+ * once when the drag starts.
+ *
+ * @see JBracketView#setDragEnabled(boolean)
+ */
+public class BracketTransferHandler extends TransferHandler {
+
+    /**
+     * The flavor of the transferred cells, which are only available within
+     * the same JVM.
+     */
+    public static final DataFlavor CELL_FLAVOR = new DataFlavor(
+            CellTransfer.class, "JBracketView cell");
+
+    /**
+     * Returns {@code MOVE}, because dropped cells are swapped.
+     *
+     * @param c the view
+     * @return {@code MOVE}
+     */
+    @Override
+    public int getSourceActions(JComponent c) {
+        return MOVE;
+    }
+
+    /**
+     * Creates a transferable for the cell at the drag origin and renders
+     * the drag image of that cell.
+     *
+     * @param c the view
+     * @return the transferable or {@code null} if the drag didn't start
+     *         on a cell
+     */
+    @Override
+    protected Transferable createTransferable(JComponent c) {
+        if (!(c instanceof JBracketView)) {
+            return null;
+        }
+        JBracketView<?> view = (JBracketView<?>) c;
+        Point           cell = view.getDragCell();
+        if (cell == null) {
+            return null;
+        }
+
+        setDragImage(createDragImage(view, cell.x, cell.y));
+        return new CellTransfer(view, cell.x, cell.y);
+    }
+
+    /**
+     * Returns whether the current drop location is a cell of the same
+     * column in the view the drag started in. The view is told about the
+     * current target, so that it can highlight it.
+     * <p>
+     * Some platforms don't provide the transferred data until the drop. In
+     * that case, the cell the drag started in is taken from the view, and
+     * if the drag didn't start in this view, any cell is accepted; the
+     * transfer is then validated by {@link #importData(TransferSupport)}.
+     *
+     * @param support the transfer support
+     * @return {@code true} if the cells can be swapped
+     */
+    @Override
+    public boolean canImport(TransferSupport support) {
+        if (!support.isDrop() || !support.isDataFlavorSupported(CELL_FLAVOR)
+                || !(support.getComponent() instanceof JBracketView)) {
+            return false;
+        }
+
+        JBracketView<?> view     = (JBracketView<?>) support.getComponent();
+        CellTransfer    transfer = getTransfer(support);
+        Point           target   = view.getCellAt(support.getDropLocation().getDropPoint());
+
+        boolean valid;
+        if (transfer != null) {
+            valid = isValid(view, transfer, target);
+        } else {
+            // the data can't be read yet, so check against the drag source
+            // of this view, if there is one
+            Point source = view.getDragCell();
+            valid = target != null && (source == null
+                    || target.x == source.x && target.y != source.y);
+        }
+        view.setDropCell(valid ? target : null);
+        if (valid) {
+            support.setDropAction(MOVE);
+        }
+        return valid;
+    }
+
+    /**
+     * Swaps the values of the dragged and the target cell.
+     *
+     * @param support the transfer support
+     * @return {@code true} if the values have been swapped
+     */
+    @Override
+    public boolean importData(TransferSupport support) {
+        if (!canImport(support)) {
+            return false;
+        }
+
+        JBracketView<?> view     = (JBracketView<?>) support.getComponent();
+        CellTransfer    transfer = getTransfer(support);
+        Point           target   = view.getCellAt(support.getDropLocation().getDropPoint());
+        view.setDropCell(null);
+        if (!isValid(view, transfer, target)) {
+            return false;
+        }
+
+        swap(view.getModel(), transfer.column, transfer.row, target.y);
+        return true;
+    }
+
+    /**
+     * Clears the drag state of the view.
+     *
+     * @param source the view
+     * @param data the transferred data
+     * @param action the performed action
+     */
+    @Override
+    protected void exportDone(JComponent source, Transferable data, int action) {
+        if (source instanceof JBracketView) {
+            ((JBracketView<?>) source).setDragCell(null);
+            ((JBracketView<?>) source).setDropCell(null);
+        }
+        setDragImage(null);
+    }
+
+    // whether the cell can be swapped with the target cell of the view
+    private static boolean isValid(JBracketView<?> view, CellTransfer transfer, Point target) {
+        return transfer != null && transfer.view == view && target != null
+                && target.x == transfer.column && target.y != transfer.row;
+    }
+
+    private static <E> void swap(BracketModel<E> model, int column, int row, int otherRow) {
+        E value = model.getValueAt(column, row);
+        model.setValueAt(model.getValueAt(column, otherRow), column, row);
+        model.setValueAt(value, column, otherRow);
+    }
+
+    private static CellTransfer getTransfer(TransferSupport support) {
+        try {
+            return (CellTransfer) support.getTransferable().getTransferData(CELL_FLAVOR);
+        } catch (UnsupportedFlavorException | java.io.IOException | RuntimeException e) {
+            // data is not accessible while dragging on some platforms
+            return null;
+        }
+    }
+
+    // renders the dragged cell once, so that the drag doesn't depend on
+    // repainting the view
+    private static Image createDragImage(JBracketView<?> view, int column, int row) {
+        Rectangle bounds = view.getCellBounds(column, row);
+        if (bounds == null || bounds.width <= 0 || bounds.height <= 0) {
+            return null;
+        }
+
+        BufferedImage image = new BufferedImage(bounds.width, bounds.height,
+                                                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.7f));
+            view.paintCell(g, column, row, new Rectangle(0, 0, bounds.width, bounds.height));
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * The transferred cell.
+     */
+    static final class CellTransfer implements Transferable {
+        final JBracketView<?> view;
+        final int             column;
+        final int             row;
+
+        CellTransfer(JBracketView<?> view, int column, int row) {
+            this.view   = view;
+            this.column = column;
+            this.row    = row;
+        }
+
+        @Override
+        public DataFlavor[] getTransferDataFlavors() {
+            return new DataFlavor[]{CELL_FLAVOR};
+        }
+
+        @Override
+        public boolean isDataFlavorSupported(DataFlavor flavor) {
+            return CELL_FLAVOR.equals(flavor);
+        }
+
+        @Override
+        public Object getTransferData(DataFlavor flavor) throws UnsupportedFlavorException {
+            if (!isDataFlavorSupported(flavor)) {
+                throw new UnsupportedFlavorException(flavor);
+            }
+            return this;
+        }
+    }
+}
@@ -29,8 +29,18 @@ import java.awt.*;
 /**
  * Small collection of methods to simplify the painting of lines in a
  * {@code JBracketView}.
+ * <p>
+ * All lines are painted toward the next bracket. If the next bracket is
+ * placed on the left, as in the right half of a {@code MirroredBracketLocator},
+ * the lines are mirrored. If the orientation of the constraints is
+ * {@link BracketConstraints#VERTICAL}, all lines are transposed.
+ * <p>
+ * This class only adapts the toolkit-independent geometry of
+ * {@link BracketLines} to Swing: the lines of the view's current layout are
+ * filled with its line color.
  *
  * @see JBracketView
+ * @see BracketLines
  */
 public final class BracketUtil {
 
@@ -66,31 +76,10 @@ public final class BracketUtil {
      * @param row the current row
      */
     public static void paintLineAbove(JBracketView<?> view, Graphics gs, int column, int row) {
-        BracketConstraints constraints = view.getConstraints();
-        BracketLocator locator = view.getLocator();
-        if (constraints == null || view.getModel().getColumnCount() - 1 == column) return;
-
-        int baseX = locator.getX(column, constraints) + constraints.bracketWidth;
-        int baseY = locator.getY(column, row, constraints) + (constraints.bracketHeight / 2);
-
-        int width = constraints.spaceX + (constraints.bracketWidth / 2);
-
-        int endY   = locator.getY(column + 1, row / 2, constraints);
-        int height = endY - baseY;
-
-        gs.setColor(view.getLineColor());
-        gs.fillRect(baseX, baseY, width, constraints.lineThickness);
-        if (row % 2 == 0) {
-            gs.fillRect(baseX + width, baseY, constraints.lineThickness, height + constraints.lineThickness);
-        } else {
-            // correct the starting Y coordinate:
-            // Y-------+ -> The Y coordinate should be at the bottom left
-            // |Bracket|    edge of the bracket.
-            // +-------+
-            endY += constraints.bracketHeight;
-
-            height = Math.max(height, baseY - endY);
-            gs.fillRect(baseX + width, endY, constraints.lineThickness, height + constraints.lineThickness);
+        BracketLines lines = view.getBracketLines();
+        if (lines != null) {
+            gs.setColor(getLineColor(view));
+            lines.lineAbove(column, row, gs::fillRect);
         }
     }
 
@@ -119,23 +108,11 @@ public final class BracketUtil {
      * @param row the current row
      */
     public static void paintLineBelow(JBracketView<?> view, Graphics gs, int column, int row) {
-        BracketConstraints constraints = view.getConstraints();
-        BracketLocator locator = view.getLocator();
-        if (constraints == null || locator == null) return;
-
-        if (row % 2 != 0 || view.getModel().getColumnCount() - 1 == column) return;
-
-        int baseX = locator.getX(column, constraints) + (constraints.bracketWidth / 2);
-        int baseY = locator.getY(column, row, constraints) + constraints.bracketHeight;
-
-        int endY   = locator.getY(column, row + 1, constraints);
-        int height = endY - baseY;
-        int width  = (constraints.bracketWidth / 2) + constraints.spaceX;
-        int midY   = (baseY + endY) / 2;
-
-        gs.setColor(view.getLineColor());
-        gs.fillRect(baseX, baseY, constraints.lineThickness, height);
-        gs.fillRect(baseX, midY, width, constraints.lineThickness);
+        BracketLines lines = view.getBracketLines();
+        if (lines != null) {
+            gs.setColor(getLineColor(view));
+            lines.lineBelow(column, row, gs::fillRect);
+        }
     }
 
     /**
@@ -161,27 +138,40 @@ public final class BracketUtil {
      * @param row the current row
      */
     public static void paintLineCentered(JBracketView<?> view, Graphics gs, int column, int row) {
-        BracketConstraints constraints = view.getConstraints();
-        BracketLocator locator = view.getLocator();
-        if (constraints == null || (row % 2 != 0)
-                || view.getModel().getColumnCount() - 1 == column) {
-            return;
+        BracketLines lines = view.getBracketLines();
+        if (lines != null) {
+            gs.setColor(getLineColor(view));
+            lines.lineCentered(column, row, gs::fillRect);
         }
+    }
 
-        int baseX = locator.getX(column, constraints) + constraints.bracketWidth;
-        int baseY = locator.getY(column, row, constraints) + (constraints.bracketHeight / 2);
-
-        int endY = locator.getY(column, row + 1, constraints) + (constraints.bracketHeight / 2);
-
-        int width  = constraints.spaceX / 2;
-        int height = (endY - baseY) + constraints.lineThickness;
-
-        gs.setColor(view.getLineColor());
-        gs.fillRect(baseX, baseY, width, constraints.lineThickness);
-        gs.fillRect(baseX, endY, width, constraints.lineThickness);
-
-        gs.fillRect(baseX + width, baseY, constraints.lineThickness, height);
+    /**
+     * Paints a straight line from the given bracket to the next bracket.
+     * This is used for brackets of a mirrored layout whose partner is placed
+     * on the other side of the next bracket:
+     * <pre>
+     * +-----------+   +-----------+   +-----------+
+     * | Bracket 1 +---+ Bracket 3 +---+ Bracket 2 |
+     * +-----------+   +-----------+   +-----------+
+     * </pre>
+     *
+     * @param view the bracket view component
+     * @param gs the graphics context to paint in
+     * @param column the current column
+     * @param row the current row
+     * @see MirroredBracketLocator
+     */
+    public static void paintLineStraight(JBracketView<?> view, Graphics gs, int column, int row) {
+        BracketLines lines = view.getBracketLines();
+        if (lines != null) {
+            gs.setColor(getLineColor(view));
+            lines.lineStraight(column, row, gs::fillRect);
+        }
+    }
 
-        gs.fillRect(baseX + width, (endY + baseY) / 2, width, constraints.lineThickness);
+    // the line color of the view, or its foreground if none has been set
+    private static Color getLineColor(JBracketView<?> view) {
+        Color color = view.getLineColor();
+        return color != null ? color : view.getForeground();
     }
 }
@@ -25,23 +25,30 @@
 package io.github.proto4j.graph; //@date 07.01.2023
 
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
- * Default {@code BracketModel} that used a {@code LinkedList} to store all
- * columns.
+ * Default {@code BracketModel} that uses a {@code CopyOnWriteArrayList} to
+ * store all columns, so that columns can be accessed by index in constant
+ * time from any thread.
+ * <p>
+ * Whole columns can be loaded in bulk with {@link #setColumn(int, List)},
+ * {@link #fromSeeds(Object[])} or a {@link Builder}. These copy the given
+ * values with a single array copy per column instead of inserting each
+ * value through {@link #setValueAt(Object, int, int)}.
  *
  * @param <E> the data type stored in each cell
  *
  * @see BracketModel
  */
 public class DefaultBracketModel<E>
-        implements BracketModel<E> {
+        extends AbstractBracketModel<E> {
 
     /**
-     * A {@code LinkedList} of {@code Column} objects that store the data
-     * of this model.
+     * A {@code CopyOnWriteArrayList} of {@code Column} objects that store
+     * the data of this model.
      */
-    private final List<Column<E>> columns = new LinkedList<>();
+    private final List<Column<E>> columns = new CopyOnWriteArrayList<>();
 
     /**
      * Creates a new {@code DefaultBracketModel} with the amount of columns.
@@ -49,9 +56,36 @@ public class DefaultBracketModel<E>
      * @param columns the amount of columns to create
      */
     public DefaultBracketModel(final int columns) {
+        List<Column<E>> initial = new ArrayList<>(Math.max(0, columns));
         for (int i = 0; i < columns; i++) {
-            this.columns.add(new Column<>());
+            initial.add(new Column<>());
         }
+        this.columns.addAll(initial);
+    }
+
+    /**
+     * Creates a new {@code DefaultBracketModel} for a simple elimination
+     * tournament. The first column contains the given seeds in array order
+     * and each following column has half the rows (rounded up) of the
+     * previous one, down to a single row. All cells of the following
+     * columns are {@code null}.
+     *
+     * @param seeds the values of the first column
+     * @param <E> the data type stored in each cell
+     * @return a new model containing the given seeds
+     * @throws IllegalArgumentException if the given array is {@code null}
+     */
+    public static <E> DefaultBracketModel<E> fromSeeds(E[] seeds) {
+        if (seeds == null) {
+            throw new IllegalArgumentException("Seeds must be not null");
+        }
+
+        Builder<E> builder = new Builder<E>().addColumn(Arrays.asList(seeds));
+        for (int rows = seeds.length; rows > 1; ) {
+            rows = (rows + 1) / 2;
+            builder.addColumn(rows);
+        }
+        return builder.build();
     }
 
     /**
@@ -108,12 +142,91 @@ public class DefaultBracketModel<E>
         if (column != null) {
             if (column.size() <= rowIndex) {
                 column.add(value);
+                int row = column.size() - 1;
+                fireRowsInserted(columnIndex, row, row);
             } else {
                 column.set(rowIndex, value);
+                fireCellUpdated(columnIndex, rowIndex);
             }
         }
     }
 
+    /**
+     * Replaces all values of the given column by the given values. The
+     * column will have exactly as many rows as there are values.
+     *
+     * @param columnIndex the column to replace
+     * @param values the new values of the column
+     * @throws IndexOutOfBoundsException if the column is invalid
+     */
+    public void setColumn(int columnIndex, List<? extends E> values) {
+        Column<E> column = getColumn(columnIndex);
+        if (column == null) {
+            throw new IndexOutOfBoundsException("Column: " + columnIndex);
+        }
+
+        int oldSize = column.size();
+        int newSize = values.size();
+        column.setAll(values);
+
+        if (Math.min(oldSize, newSize) > 0) {
+            fireRowsUpdated(columnIndex, 0, Math.min(oldSize, newSize) - 1);
+        }
+        if (newSize > oldSize) {
+            fireRowsInserted(columnIndex, oldSize, newSize - 1);
+        } else if (newSize < oldSize) {
+            fireRowsDeleted(columnIndex, newSize, oldSize - 1);
+        }
+    }
+
+    /**
+     * Appends a new empty column to this model.
+     *
+     * @return the index of the new column
+     */
+    public int addColumn() {
+        columns.add(new Column<>());
+        int column = columns.size() - 1;
+        fireColumnInserted(column);
+        return column;
+    }
+
+    /**
+     * Inserts a new cell with the given value at <code>rowIndex</code> in
+     * the given column. All following cells of the column are shifted by
+     * one row.
+     *
+     * @param value the value of the new cell
+     * @param columnIndex the column to insert the cell into
+     * @param rowIndex the row of the new cell
+     * @throws IndexOutOfBoundsException if the column or row is invalid
+     */
+    public void insertRow(E value, int columnIndex, int rowIndex) {
+        Column<E> column = getColumn(columnIndex);
+        if (column == null) {
+            throw new IndexOutOfBoundsException("Column: " + columnIndex);
+        }
+        column.add(rowIndex, value);
+        fireRowsInserted(columnIndex, rowIndex, rowIndex);
+    }
+
+    /**
+     * Removes the cell at <code>rowIndex</code> from the given column. All
+     * following cells of the column are shifted up by one row.
+     *
+     * @param columnIndex the column to remove the cell from
+     * @param rowIndex the row of the removed cell
+     * @throws IndexOutOfBoundsException if the column or row is invalid
+     */
+    public void removeRow(int columnIndex, int rowIndex) {
+        Column<E> column = getColumn(columnIndex);
+        if (column == null) {
+            throw new IndexOutOfBoundsException("Column: " + columnIndex);
+        }
+        column.remove(rowIndex);
+        fireRowsDeleted(columnIndex, rowIndex, rowIndex);
+    }
+
     /**
      * Returns the column at the given column index or {@code null} if the
      * index is invalid.
@@ -154,17 +267,86 @@ public class DefaultBracketModel<E>
             brackets.add(element);
         }
 
+        public void add(int index, E element) {
+            brackets.add(index, element);
+        }
+
         public void set(int index, E element) {
             brackets.set(index, element);
         }
 
+        public E remove(int index) {
+            return brackets.remove(index);
+        }
+
         public boolean addAll(Collection<? extends E> c) {
             return brackets.addAll(c);
         }
 
+        public void setAll(Collection<? extends E> c) {
+            synchronized (brackets) {
+                brackets.clear();
+                brackets.addAll(c);
+            }
+        }
+
         public E get(int index) {
             return brackets.get(index);
         }
 
     }
+
+    /**
+     * Creates a {@code DefaultBracketModel} column by column. Each column is
+     * stored with a single array copy when the model is built.
+     * <pre>
+     * {@code
+     *  DefaultBracketModel<Game> model = new DefaultBracketModel.Builder<Game>()
+     *          .addColumn(Arrays.asList(games))
+     *          .addColumn(games.length / 2)
+     *          .build();
+     * }
+     * </pre>
+     *
+     * @param <E> the data type stored in each cell
+     */
+    public static class Builder<E> {
+
+        private final List<List<? extends E>> columns = new ArrayList<>();
+
+        /**
+         * Adds a column containing the given values.
+         *
+         * @param values the values of the new column
+         * @return this builder
+         */
+        public Builder<E> addColumn(List<? extends E> values) {
+            columns.add(values);
+            return this;
+        }
+
+        /**
+         * Adds a column with the given amount of {@code null} values.
+         *
+         * @param rowCount the row count of the new column
+         * @return this builder
+         */
+        public Builder<E> addColumn(int rowCount) {
+            columns.add(Collections.nCopies(rowCount, null));
+            return this;
+        }
+
+        /**
+         * Creates a new model with all added columns.
+         *
+         * @return the new model
+         */
+        public DefaultBracketModel<E> build() {
+            DefaultBracketModel<E> model = new DefaultBracketModel<>(columns.size());
+            for (int i = 0; i < columns.size(); i++) {
+                model.getColumn(i).addAll(columns.get(i));
+            }
+            return model;
+        }
+    }
 }
@@ -0,0 +1,212 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import javax.swing.event.EventListenerList;
+import java.util.BitSet;
+
+/**
+ * Default {@code BracketSelectionModel} that stores the selection in a
+ * {@code BitSet} indexed by the flat cell index. Checking whether a cell is
+ * selected takes constant time, and a selection of a bracket with tens of
+ * thousands of cells only needs a few kilobytes.
+ * <p>
+ * Listeners are only notified about the cells whose state has actually
+ * changed.
+ *
+ * @see BracketSelectionModel
+ */
+public class DefaultBracketSelectionModel
+        implements BracketSelectionModel {
+
+    /**
+     * The list of listeners.
+     */
+    protected final EventListenerList listenerList = new EventListenerList();
+
+    private final BitSet selection = new BitSet();
+
+    private int selectionMode = MULTIPLE_SELECTION;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSelectionMode() {
+        return selectionMode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setSelectionMode(int selectionMode) {
+        if (selectionMode < SINGLE_SELECTION || selectionMode > PATH_SELECTION) {
+            throw new IllegalArgumentException("Unsupported selection mode: " + selectionMode);
+        }
+        this.selectionMode = selectionMode;
+        clearSelection();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSelected(int index) {
+        return index >= 0 && selection.get(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSelectionEmpty() {
+        return selection.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] getSelectedIndices() {
+        return selection.stream().toArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setSelection(int... indices) {
+        BitSet next = new BitSet();
+        if (selectionMode == SINGLE_SELECTION) {
+            if (indices.length > 0) {
+                next.set(checkIndex(indices[indices.length - 1]));
+            }
+        } else {
+            for (int index : indices) {
+                next.set(checkIndex(index));
+            }
+        }
+        update(next);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addSelection(int... indices) {
+        if (selectionMode != MULTIPLE_SELECTION) {
+            setSelection(indices);
+            return;
+        }
+        BitSet next = (BitSet) selection.clone();
+        for (int index : indices) {
+            next.set(checkIndex(index));
+        }
+        update(next);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeSelection(int... indices) {
+        BitSet next = (BitSet) selection.clone();
+        for (int index : indices) {
+            if (index >= 0) {
+                next.clear(index);
+            }
+        }
+        update(next);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clearSelection() {
+        update(new BitSet());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addBracketSelectionListener(BracketSelectionListener l) {
+        listenerList.add(BracketSelectionListener.class, l);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeBracketSelectionListener(BracketSelectionListener l) {
+        listenerList.remove(BracketSelectionListener.class, l);
+    }
+
+    /**
+     * Returns an array of all the selection listeners registered on this
+     * model.
+     *
+     * @return all of this model's {@code BracketSelectionListener}s or an
+     *         empty array if no listeners are currently registered
+     */
+    public BracketSelectionListener[] getBracketSelectionListeners() {
+        return listenerList.getListeners(BracketSelectionListener.class);
+    }
+
+    /**
+     * Forwards the given notification event to all
+     * {@code BracketSelectionListener}s that registered themselves as
+     * listeners for this selection model.
+     *
+     * @param e the event to be forwarded
+     */
+    protected void fireSelectionChanged(BracketSelectionEvent e) {
+        Object[] listeners = listenerList.getListenerList();
+        for (int i = listeners.length - 2; i >= 0; i -= 2) {
+            if (listeners[i] == BracketSelectionListener.class) {
+                ((BracketSelectionListener) listeners[i + 1]).selectionChanged(e);
+            }
+        }
+    }
+
+    private void update(BitSet next) {
+        BitSet changed = (BitSet) selection.clone();
+        changed.xor(next);
+        if (changed.isEmpty()) {
+            return;
+        }
+        selection.xor(changed);
+        fireSelectionChanged(new BracketSelectionEvent(this, changed.stream().toArray()));
+    }
+
+    private static int checkIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Invalid cell index: " + index);
+        }
+        return index;
+    }
+}
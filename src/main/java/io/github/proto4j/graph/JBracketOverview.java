@@ -0,0 +1,380 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import javax.swing.*;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+import java.awt.*;
+import java.awt.event.*;
+import java.awt.image.BufferedImage;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+
+/**
+ * A small overview (minimap) of a {@code JBracketView}, which is meant to be
+ * placed next to the {@code JScrollPane} of large brackets. The overview
+ * shows the whole bracket scaled down to its own size and highlights the
+ * currently visible part of the view. Clicking or dragging inside the
+ * overview scrolls the view to the selected location.
+ * <p>
+ * The downscaled bracket is rendered into a cached image once. Afterwards,
+ * only the cells that have been marked as changed by the events of the
+ * {@code BracketModel} are rendered again. The whole image is only
+ * recreated if the size of the view or the overview changes, or if any
+ * other property of the view changes, like its painters, its colors or its
+ * layout.
+ * <pre>
+ * {@code
+ *  JBracketView<String> view = ...;
+ *  JPanel panel = new JPanel(new BorderLayout());
+ *  panel.add(new JScrollPane(view), BorderLayout.CENTER);
+ *  panel.add(new JBracketOverview(view), BorderLayout.EAST);
+ * }
+ * </pre>
+ *
+ * @see JBracketView
+ */
+public class JBracketOverview extends JComponent {
+
+    /**
+     * The color used to highlight the visible part of the view.
+     */
+    private Color viewportColor = new Color(0, 120, 215);
+
+    private JBracketView<?> view;
+    private JViewport       viewport;
+
+    // the cached rendering and the scale it has been rendered with; only
+    // accessed on the EDT
+    private BufferedImage image;
+    private double        scale;
+
+    // the region of the view that has to be rendered again
+    private final Object lock = new Object();
+    private Rectangle dirty;
+    private boolean   flushPending;
+
+    private final Handler handler = new Handler();
+
+    /**
+     * Creates a new overview that is not bound to any view.
+     */
+    public JBracketOverview() {
+        setPreferredSize(new Dimension(200, 150));
+        addMouseListener(handler);
+        addMouseMotionListener(handler);
+        addComponentListener(handler);
+    }
+
+    /**
+     * Creates a new overview of the given view.
+     *
+     * @param view the view to display
+     */
+    public JBracketOverview(JBracketView<?> view) {
+        this();
+        setView(view);
+    }
+
+    /**
+     * Returns the view displayed by this overview.
+     *
+     * @return the current view, or {@code null}
+     */
+    public JBracketView<?> getView() {
+        return view;
+    }
+
+    /**
+     * Sets the view displayed by this overview.
+     *
+     * @param view the new view, or {@code null}
+     */
+    public void setView(JBracketView<?> view) {
+        JBracketView<?> oldView = this.view;
+        if (oldView != null) {
+            oldView.removePropertyChangeListener(handler);
+            oldView.removeComponentListener(handler);
+            oldView.removeHierarchyListener(handler);
+            if (oldView.getModel() != null) {
+                oldView.getModel().removeBracketModelListener(handler);
+            }
+        }
+        this.view = view;
+        if (view != null) {
+            view.addPropertyChangeListener(handler);
+            view.addComponentListener(handler);
+            view.addHierarchyListener(handler);
+            if (view.getModel() != null) {
+                view.getModel().addBracketModelListener(handler);
+            }
+        }
+        updateViewport();
+        firePropertyChange("view", oldView, view);
+        invalidateImage();
+    }
+
+    /**
+     * Returns the color used to highlight the visible part of the view.
+     *
+     * @return the viewport color
+     */
+    public Color getViewportColor() {
+        return viewportColor;
+    }
+
+    /**
+     * Sets the color used to highlight the visible part of the view.
+     *
+     * @param viewportColor the new color (must be non-null)
+     */
+    public void setViewportColor(Color viewportColor) {
+        this.viewportColor = viewportColor;
+        repaint();
+    }
+
+    /**
+     * Paints the cached image of the view and the visible rectangle.
+     *
+     * @param g the <code>Graphics</code> context in which to paint
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (view == null || view.getWidth() <= 0 || view.getHeight() <= 0) {
+            return;
+        }
+
+        BufferedImage cached = validateImage();
+        if (cached == null) {
+            return;
+        }
+        g.drawImage(cached, 0, 0, null);
+
+        if (viewport != null) {
+            Rectangle visible = toOverview(viewport.getViewRect());
+            Color     color   = viewportColor;
+
+            g.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 48));
+            g.fillRect(visible.x, visible.y, visible.width, visible.height);
+            g.setColor(color);
+            g.drawRect(visible.x, visible.y, visible.width - 1, visible.height - 1);
+        }
+    }
+
+    // Returns the cached image and renders the region that has been marked
+    // as dirty since the last paint.
+    private BufferedImage validateImage() {
+        if (image == null) {
+            int width  = view.getWidth();
+            int height = view.getHeight();
+
+            scale = Math.min(getWidth() / (double) width, getHeight() / (double) height);
+            int imageWidth  = (int) Math.ceil(width * scale);
+            int imageHeight = (int) Math.ceil(height * scale);
+            if (imageWidth <= 0 || imageHeight <= 0) {
+                return null;
+            }
+            image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB);
+            render(new Rectangle(0, 0, width, height));
+            synchronized (lock) {
+                dirty = null;
+            }
+            return image;
+        }
+
+        Rectangle region;
+        synchronized (lock) {
+            region = dirty;
+            dirty  = null;
+        }
+        if (region != null) {
+            render(region);
+        }
+        return image;
+    }
+
+    // renders the given region of the view into the cached image
+    private void render(Rectangle region) {
+        Graphics2D g = image.createGraphics();
+        try {
+            Rectangle target = toOverview(region);
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(target.x, target.y, target.width, target.height);
+            g.setComposite(AlphaComposite.SrcOver);
+            g.clip(target);
+
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
+            g.scale(scale, scale);
+            if (view.isOpaque()) {
+                g.setColor(view.getBackground());
+                g.fill(region);
+            }
+            view.paintBrackets(g);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private Rectangle toOverview(Rectangle r) {
+        int x1 = (int) Math.floor(r.x * scale);
+        int y1 = (int) Math.floor(r.y * scale);
+        int x2 = (int) Math.ceil((r.x + r.width) * scale);
+        int y2 = (int) Math.ceil((r.y + r.height) * scale);
+        return new Rectangle(x1, y1, x2 - x1, y2 - y1);
+    }
+
+    private void invalidateImage() {
+        image = null;
+        repaint();
+    }
+
+    private void markDirty(Rectangle region) {
+        boolean schedule;
+        synchronized (lock) {
+            dirty    = dirty == null ? region : dirty.union(region);
+            schedule = !flushPending;
+            flushPending = true;
+        }
+        if (schedule) {
+            SwingUtilities.invokeLater(() -> {
+                synchronized (lock) {
+                    flushPending = false;
+                }
+                repaint();
+            });
+        }
+    }
+
+    private void updateViewport() {
+        JViewport newViewport = null;
+        if (view != null && view.getParent() instanceof JViewport) {
+            newViewport = (JViewport) view.getParent();
+        }
+        if (newViewport != viewport) {
+            if (viewport != null) {
+                viewport.removeChangeListener(handler);
+            }
+            viewport = newViewport;
+            if (viewport != null) {
+                viewport.addChangeListener(handler);
+            }
+            repaint();
+        }
+    }
+
+    // scrolls the view so that the given overview point is centered
+    private void navigate(Point p) {
+        if (viewport == null || image == null || scale <= 0) {
+            return;
+        }
+        Rectangle visible = viewport.getViewRect();
+        Dimension size    = viewport.getViewSize();
+
+        int x = (int) (p.x / scale) - visible.width / 2;
+        int y = (int) (p.y / scale) - visible.height / 2;
+        x = Math.max(0, Math.min(x, size.width - visible.width));
+        y = Math.max(0, Math.min(y, size.height - visible.height));
+        viewport.setViewPosition(new Point(x, y));
+    }
+
+    private class Handler extends MouseAdapter
+            implements BracketModelListener, PropertyChangeListener, ChangeListener,
+                       ComponentListener, HierarchyListener {
+
+        @Override
+        public void bracketChanged(BracketModelEvent e) {
+            JBracketView<?> view = JBracketOverview.this.view;
+            if (view == null) {
+                return;
+            }
+            // structure changes are followed by a new layout that resizes
+            // the view, which recreates the whole image
+            if (e.isStructureChange() || e.getColumn() == BracketModelEvent.ALL_COLUMNS
+                    || e.getLastRow() - e.getFirstRow() >= BracketRepaintScheduler.MAX_DIRTY_CELLS) {
+                markDirty(new Rectangle(0, 0, view.getWidth(), view.getHeight()));
+                return;
+            }
+
+            BracketConstraints bc  = view.getConstraints();
+            int                pad = bc == null ? 0 : bc.lineThickness;
+            for (int row = e.getFirstRow(); row <= e.getLastRow(); row++) {
+                Rectangle bounds = view.getCellBounds(e.getColumn(), row);
+                if (bounds != null) {
+                    bounds.grow(pad, pad);
+                    markDirty(bounds);
+                }
+            }
+        }
+
+        @Override
+        public void propertyChange(PropertyChangeEvent e) {
+            if (e.getOldValue() instanceof BracketModel) {
+                ((BracketModel<?>) e.getOldValue()).removeBracketModelListener(this);
+            }
+            if (e.getNewValue() instanceof BracketModel) {
+                ((BracketModel<?>) e.getNewValue()).addBracketModelListener(this);
+            }
+            invalidateImage();
+        }
+
+        @Override
+        public void stateChanged(ChangeEvent e) {
+            repaint();
+        }
+
+        @Override
+        public void hierarchyChanged(HierarchyEvent e) {
+            if ((e.getChangeFlags() & HierarchyEvent.PARENT_CHANGED) != 0) {
+                updateViewport();
+            }
+        }
+
+        @Override
+        public void componentResized(ComponentEvent e) {
+            invalidateImage();
+        }
+
+        @Override
+        public void componentMoved(ComponentEvent e) {}
+
+        @Override
+        public void componentShown(ComponentEvent e) {}
+
+        @Override
+        public void componentHidden(ComponentEvent e) {}
+
+        @Override
+        public void mousePressed(MouseEvent e) {
+            navigate(e.getPoint());
+        }
+
+        @Override
+        public void mouseDragged(MouseEvent e) {
+            navigate(e.getPoint());
+        }
+    }
+}
@@ -24,9 +24,26 @@
 
 package io.github.proto4j.graph; //@date 07.01.2023
 
-import javax.accessibility.Accessible;
+import javax.accessibility.*;
 import javax.swing.*;
 import java.awt.*;
+import java.awt.dnd.DragSource;
+import java.awt.dnd.DropTarget;
+import java.awt.dnd.DropTargetAdapter;
+import java.awt.dnd.DropTargetDropEvent;
+import java.awt.dnd.DropTargetEvent;
+import java.awt.event.ActionEvent;
+import java.awt.event.FocusListener;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TooManyListenersException;
 import java.util.function.Predicate;
 
 /**
@@ -44,6 +61,11 @@ import java.util.function.Predicate;
  * if none has been set. It contains a default algorithm to compute the position
  * of each cell according to its row and column.
  * <p>
+ * The computed positions are cached in an immutable {@code BracketLayout}.
+ * Whenever the model structure, the locator or the constraints change, a new
+ * layout is computed on a background thread, while the view keeps painting
+ * the previous layout until the new one is ready.
+ * <p>
  * {@code JBracketView} stores a set of attributes in a {@code BracketConstraints}
  * object. By now, the following attributes are supported:
  * <ul>
@@ -55,6 +77,8 @@ import java.util.function.Predicate;
  *     <li>{@code spaceY}: The initial vertical space between two cells</li>
  *     <li>{@code lineThickness}: The line width</li>
  *     <li>{@code paintMode}: The line drawing strategy</li>
+ *     <li>{@code orientation}: Whether columns are placed from left to right
+ *     or from top to bottom</li>
  * </ul>
  * <p>
  * {@code JBracketView} doesn't implement scrolling directly. To create a view
@@ -68,14 +92,51 @@ import java.util.function.Predicate;
  * <p>
  * In order to paint all brackets efficiently, there is a {@code BracketCellRenderer}
  * that is used as a "rubber stamp" to paint the cells. The default bracket
- * model uses a {@code LinkedList} to store the columns and per column a
- * synchronized {@code ArrayList} to store the value of each cell.
+ * model uses a {@code CopyOnWriteArrayList} to store the columns and per
+ * column a synchronized {@code ArrayList} to store the value of each cell.
  * <p>
  * Currently, there are three different line drawing methods supported by this
  * {@code JBracketView}. For more information about the line painting, see
  * the {@code BracketUtil} documentation.
  * <p>
- * <b>Important:</b> Eventing and editing will be supported in future versions.
+ * The view registers itself as a {@code BracketModelListener} on its model.
+ * Repaints caused by model events are coalesced and flushed at most once per
+ * frame (see {@link #setRepaintFrameRate(int)}), so that models which are
+ * updated at a high rate don't flood the event dispatch thread.
+ * <p>
+ * The rendered brackets are retained in tiles of video memory (see
+ * {@link #setBackBufferEnabled(boolean)}). Repaint requests only mark the
+ * affected regions of the tiles as dirty, so scrolling or exposing the view
+ * copies unchanged tiles instead of rendering every visible cell again.
+ * The tiles are kept in a cache of bounded size, and tiles next to the
+ * visible region are rendered ahead of time in the background.
+ * <p>
+ * Advanced or inserted cells can be animated with
+ * {@link #animateAdvancement(int, int)} and {@link #animateInsertion(int, int)}.
+ * Animations of all views share a single timer and drop frames instead of
+ * stalling the event dispatch thread if painting them gets too expensive.
+ * <p>
+ * Cells can be selected with the mouse. The selection is stored in a
+ * {@code BracketSelectionModel} and passed to the cell renderer through
+ * the {@code isSelected} flag. Changing the selection only repaints the
+ * cells whose selection state has changed.
+ * <p>
+ * The selection can also be moved with the arrow keys, which follow the
+ * elimination tree: left and right move to the feeding and the advancing
+ * match, up and down to the neighbouring cell of the same column.
+ * <p>
+ * If dragging is enabled (see {@link #setDragEnabled(boolean)}), cells can
+ * be reseeded by dragging them onto another cell of the same column, which
+ * swaps both values through the model.
+ * <p>
+ * Tooltips of single cells are provided by a {@code BracketToolTipProvider}.
+ * The cell under the mouse is found through the cached layout, and the
+ * provided texts are cached per cell until the model reports a change.
+ * <p>
+ * Assistive technologies see each cell as an accessible child of the
+ * {@link AccessibleJBracketView}. These children are created lazily.
+ * <p>
+ * <b>Important:</b> Editing will be supported in future versions.
  *
  * @param <T> the type of the elements of this bracket view
  * @see BracketModel
@@ -87,6 +148,15 @@ import java.util.function.Predicate;
 public class JBracketView<T> extends JComponent
         implements Scrollable, Accessible {
 
+    /**
+     * Guards the configuration and painting of renderer components on all
+     * threads. Renderers created by a {@code BracketCellRendererFactory}
+     * don't share their own state, but Swing components still share their
+     * UI delegates (the delegate of a {@code JLabel} keeps the rectangles
+     * of its last layout, for instance) and the parser of HTML texts.
+     */
+    private static final Object RENDERER_LOCK = new Object();
+
     /**
      * The data model used to store the value of each cell separately. Each
      * column can contain a different amount of rows.
@@ -102,6 +172,29 @@ public class JBracketView<T> extends JComponent
      */
     private BracketCellRenderer<? super T> cellRenderer;
 
+    /**
+     * Creates renderers for threads other than the event dispatch thread,
+     * or {@code null} if the {@code cellRenderer} is shared.
+     *
+     * @see BracketCellRendererFactory
+     */
+    private volatile BracketCellRendererFactory<? super T> cellRendererFactory;
+
+    /**
+     * Paints the brackets/cells of this view instead of the cell renderer,
+     * if it is not {@code null}.
+     *
+     * @see BracketCellPainter
+     */
+    private volatile BracketCellPainter<? super T> cellPainter;
+
+    /**
+     * The shaped texts of the painters of this view.
+     *
+     * @see BracketTextCache
+     */
+    private volatile BracketTextCache textCache;
+
     /**
      * The line painter used to draw the lines between the brackets/cells. Note
      * that there will be no lines if no {@code BracketLinePainter} has been
@@ -136,10 +229,104 @@ public class JBracketView<T> extends JComponent
     private BracketLocator locator;
 
     /**
-     * The line color used to paint the lines between the brackets/cells.
+     * The line color used to paint the lines between the brackets/cells, or
+     * {@code null} if the foreground color is used.
      */
     private Color lineColor;
 
+    /**
+     * Collects the regions that have to be repainted because of model
+     * changes and flushes them once per frame.
+     */
+    private BracketRepaintScheduler repaintScheduler;
+
+    /**
+     * Listens to the current model and forwards its changes to the
+     * {@code repaintScheduler}.
+     */
+    private Handler handler;
+
+    /**
+     * The positions of all cells. Once a layout exists, changes of the
+     * model, locator or constraints are laid out by the {@code layoutWorker}
+     * in the background and this view keeps painting the previous layout
+     * until the new one is ready.
+     *
+     * @see BracketLayout
+     */
+    private volatile BracketLayout bracketLayout;
+
+    /**
+     * Keeps the rendered brackets in tiles, so that only dirty regions have
+     * to be rendered again.
+     *
+     * @see #setBackBufferEnabled(boolean)
+     */
+    private BracketBackBuffer backBuffer;
+
+    /**
+     * Whether {@code backBuffer} is used to paint this view.
+     */
+    private boolean backBufferEnabled = true;
+
+    /**
+     * The line geometry of {@code bracketLayout}, which is created lazily.
+     *
+     * @see BracketLines
+     */
+    private volatile BracketLines bracketLines;
+
+    /**
+     * Computes new layouts off the event dispatch thread.
+     */
+    private BracketLayoutWorker layoutWorker;
+
+    /**
+     * Animates advanced and inserted cells.
+     */
+    private BracketAnimator animator;
+
+    /**
+     * Stores the selected cells by their flat index.
+     *
+     * @see BracketSelectionModel
+     */
+    private BracketSelectionModel selectionModel;
+
+    /**
+     * The most recently selected cell, from which keyboard navigation
+     * starts. Both values are {@code -1} if there is no such cell.
+     */
+    private int leadColumn = -1, leadRow = -1;
+
+    /**
+     * Provides the tooltip text of each cell.
+     *
+     * @see BracketToolTipProvider
+     */
+    private BracketToolTipProvider<? super T> toolTipProvider;
+
+    /**
+     * Caches the texts of the {@code toolTipProvider}.
+     */
+    private BracketToolTipCache toolTipCache;
+
+    /**
+     * Whether cells can be dragged by the {@code TransferHandler}.
+     */
+    private boolean dragEnabled;
+
+    /**
+     * The cell that is currently dragged, the current drop target and the
+     * cell that has been pressed. All of them are only accessed on the EDT.
+     */
+    private Point dragCell, dropCell, pressedCell;
+
+    /**
+     * The location where the mouse has been pressed on {@code pressedCell}.
+     */
+    private Point pressedPoint;
+
     /**
      * Creates an empty view with no model, no cell renderer and no line
      * painter. The {@code BracketConstraints} object is created regardless.
@@ -191,68 +378,35 @@ public class JBracketView<T> extends JComponent
      * </pre>
      * The lines between these brackets would be painted be the current
      * {@code BracketLinePainter} if one has been set.
+     * <p>
+     * Each column has half the rows of the previous one. If a column has an
+     * odd row count, the next column gets one more row for the bye. To place
+     * seeded entrants and their byes, use {@link BracketSeeding} instead.
      *
      * @param initialRowCount the row count of the first column
      * @param elimination tells the constructor whether the row count of
      *         each column should be decreased
-     * @throws IllegalArgumentException if {@code elimination} is enabled and
-     *                                  the row count is not a multiple of {@code 2}.
+     * @see BracketSeeding#createModel(Object[], boolean)
      */
-    public JBracketView(final int initialRowCount, boolean elimination)
-            throws IllegalArgumentException {
-        this();
-        int size = initialRowCount;
-        if (size % 2 != 0 && elimination) {
-            throw new IllegalArgumentException("RowCount has to be a multiple of 2");
-        }
-
-        int columnCount = 1;
-        if (size > 1 && elimination) {
-            do {
-                columnCount++;
-            } while ((size /= 2) != 1);
-        }
-
-        setModel(new DefaultBracketModel<>(columnCount));
-        for (int i = 0; i < columnCount; i++) {
-            int rowCount = initialRowCount / (i == 0 ? 1 : 2 * i);
-            for (int j = 0; j < rowCount; j++) {
-                dataModel.setValueAt(null, i, j);
-            }
-        }
+    public JBracketView(final int initialRowCount, boolean elimination) {
+        this(createModel(null, initialRowCount, elimination));
     }
 
     /**
      * Creates a new {@code JBracketView} with the given initial (or full) data.
-     * Note that all columns and rows needed for this view are created via
-     * the {@link JBracketView#JBracketView(int, boolean)} constructor.
+     * Note that all columns and rows needed for this view are created like
+     * in the {@link JBracketView#JBracketView(int, boolean)} constructor.
      * <p>
-     * All values stored in the given array will be inserted into the current
-     * data model.
+     * All values stored in the given array will be copied into the first
+     * column of the data model.
      *
      * @param elements the initial elements
      * @param elimination tells the constructor whether the row count of
      *         each column should be decreased
-     * @throws IllegalArgumentException if {@code elimination} is enabled and
-     *                                  the row count is not a multiple of {@code 2}
-     *                                  or the given array is {@code null}.
+     * @throws IllegalArgumentException if the given array is {@code null}.
      */
     public JBracketView(final T[] elements, boolean elimination) throws IllegalArgumentException {
-        this(elements == null ? -1 : elements.length, elimination);
-
-        if (elements == null) {
-            throw new IllegalArgumentException("Elements must be not null");
-        }
-
-        int idx = 0;
-        for (int i = 0; i < dataModel.getColumnCount(); i++) {
-            int rowCount = dataModel.getRowCount(i);
-            for (int j = 0; j < rowCount; j++) {
-                if (idx < elements.length) {
-                    dataModel.setValueAt(elements[idx++], i, j);
-                }
-            }
-        }
+        this(createModel(elements, elimination));
     }
 
     /**
@@ -283,18 +437,57 @@ public class JBracketView<T> extends JComponent
             throw new IllegalArgumentException("RowCount has to be > 0");
         }
 
-        setModel(new DefaultBracketModel<>(columns));
-        setLocator(BracketLocator.asGrid());
-        int idx = 0;
+        DefaultBracketModel.Builder<T> builder = new DefaultBracketModel.Builder<>();
         for (int i = 0; i < columns; i++) {
-            for (int j = 0; j < rows; j++) {
-                if (idx < elements.length) {
-                    dataModel.setValueAt(elements[idx++], i, j);
-                } else {
-                    dataModel.setValueAt(null, i, j);
-                }
+            // copyOfRange fills the missing elements with null
+            int from = (int) Math.min((long) i * rows, elements.length);
+            builder.addColumn(Arrays.asList(Arrays.copyOfRange(elements, from, from + rows)));
+        }
+        setModel(builder.build());
+        setLocator(BracketLocator.asGrid());
+    }
+
+    /**
+     * Creates a new {@code JBracketView} for a simple elimination tournament
+     * with the given seeds in its first column.
+     *
+     * @param seeds the values of the first column
+     * @param <T> the type of the elements of the bracket view
+     * @return a new view displaying the given seeds
+     * @throws IllegalArgumentException if the given array is {@code null}
+     * @see DefaultBracketModel#fromSeeds(Object[])
+     */
+    public static <T> JBracketView<T> fromSeeds(T[] seeds) {
+        return new JBracketView<>(DefaultBracketModel.fromSeeds(seeds));
+    }
+
+    private static <T> DefaultBracketModel<T> createModel(T[] elements, boolean elimination) {
+        if (elements == null) {
+            throw new IllegalArgumentException("Elements must be not null");
+        }
+        return createModel(elements, elements.length, elimination);
+    }
+
+    // Creates the model for the elimination constructors. If elements are
+    // given, they are copied into the first column.
+    private static <T> DefaultBracketModel<T> createModel(T[] elements, int initialRowCount,
+                                                          boolean elimination) {
+        DefaultBracketModel.Builder<T> builder = new DefaultBracketModel.Builder<>();
+        if (elements != null) {
+            builder.addColumn(Arrays.asList(elements));
+        } else {
+            builder.addColumn(Math.max(0, initialRowCount));
+        }
+
+        if (elimination) {
+            // each round has half the rows of the previous one, an odd
+            // row count leaves one bye that advances without a match
+            for (int rows = initialRowCount; rows > 1; ) {
+                rows = (rows + 1) / 2;
+                builder.addColumn(rows);
             }
         }
+        return builder.build();
     }
 
     /**
@@ -315,7 +508,19 @@ public class JBracketView<T> extends JComponent
      * @param dataModel the data model to use
      */
     public void setModel(BracketModel<T> dataModel) {
+        BracketModel<T> oldModel = this.dataModel;
+        if (oldModel != null) {
+            oldModel.removeBracketModelListener(handler);
+        }
         this.dataModel = dataModel;
+        if (dataModel != null) {
+            dataModel.addBracketModelListener(handler);
+        }
+        animator.stop();
+        toolTipCache.invalidateAll();
+        firePropertyChange("model", oldModel, dataModel);
+        requestBracketLayout();
+        repaint();
     }
 
     /**
@@ -333,12 +538,121 @@ public class JBracketView<T> extends JComponent
      * The job of a cell renderer is discussed in detail in the
      * <a href="#renderer">class level documentation</a>.
      *
+     * <p>
+     * A renderer that is set by this method can only be used by one thread
+     * at a time, and it removes the current {@code cellRendererFactory}.
+     *
      * @param cellRenderer the <code>ListCellRenderer</code>
      *         that paints list cells
      * @see #getCellRenderer
+     * @see #setCellRendererFactory(BracketCellRendererFactory)
      */
     public void setCellRenderer(BracketCellRenderer<? super T> cellRenderer) {
-        this.cellRenderer = cellRenderer;
+        BracketCellRenderer<? super T>        oldRenderer = this.cellRenderer;
+        BracketCellRendererFactory<? super T> old         = cellRendererFactory;
+        this.cellRenderer        = cellRenderer;
+        this.cellRendererFactory = null;
+        firePropertyChange("cellRendererFactory", old, null);
+        firePropertyChange("cellRenderer", oldRenderer, cellRenderer);
+        repaint();
+    }
+
+    /**
+     * Returns the factory that creates the cell renderers of this view.
+     *
+     * @return the value of the {@code cellRendererFactory} property
+     * @see #setCellRendererFactory(BracketCellRendererFactory)
+     */
+    public BracketCellRendererFactory<? super T> getCellRendererFactory() {
+        return cellRendererFactory;
+    }
+
+    /**
+     * Sets the factory that creates the cell renderers of this view. The
+     * view creates one renderer for painting on the event dispatch thread,
+     * which becomes the {@code cellRenderer} of this view. The tiles of the
+     * back buffer are then rendered in the background with another
+     * renderer, without waiting for the event dispatch thread, and a
+     * {@code BracketExporter} creates a renderer per tile.
+     * <p>
+     * Renderer components are still configured and stamped one at a time
+     * across all views and threads, so a factory only keeps the event
+     * dispatch thread responsive. Exports only scale with the available
+     * cores if the cells are painted by a {@link BracketCellPainter}.
+     *
+     * @param cellRendererFactory the new factory or {@code null} to remove
+     *         the cell renderer
+     * @see BracketCellRendererFactory
+     * @see BracketExporter#BracketExporter(JBracketView)
+     * @see #setCellPainter(BracketCellPainter)
+     */
+    public void setCellRendererFactory(BracketCellRendererFactory<? super T> cellRendererFactory) {
+        BracketCellRenderer<? super T>        oldRenderer = this.cellRenderer;
+        BracketCellRendererFactory<? super T> old         = this.cellRendererFactory;
+        this.cellRenderer        = cellRendererFactory == null ? null
+                                 : cellRendererFactory.createCellRenderer();
+        this.cellRendererFactory = cellRendererFactory;
+        firePropertyChange("cellRendererFactory", old, cellRendererFactory);
+        firePropertyChange("cellRenderer", oldRenderer, cellRenderer);
+        repaint();
+    }
+
+    /**
+     * Returns the painter that paints the brackets/cells of this view.
+     *
+     * @return the value of the {@code cellPainter} property
+     * @see #setCellPainter(BracketCellPainter)
+     */
+    public BracketCellPainter<? super T> getCellPainter() {
+        return cellPainter;
+    }
+
+    /**
+     * Sets a painter that paints each bracket/cell straight into the
+     * graphics context. If a painter is set, it is used instead of the cell
+     * renderer, which then only provides the accessible names of the cells.
+     * Painters are thread-safe, so the back buffer and exports use the
+     * painter of this view on any thread and without a renderer factory.
+     *
+     * @param cellPainter the new painter or {@code null} if the cell
+     *         renderer should be used
+     * @see BracketCellPainter
+     * @see MatchCellPainter
+     */
+    public void setCellPainter(BracketCellPainter<? super T> cellPainter) {
+        BracketCellPainter<? super T> old = this.cellPainter;
+        this.cellPainter = cellPainter;
+        firePropertyChange("cellPainter", old, cellPainter);
+        repaint();
+    }
+
+    /**
+     * Returns the cache of shaped texts that is shared by the painters of
+     * this view.
+     *
+     * @return the value of the {@code textCache} property
+     * @see BracketTextCache
+     */
+    public BracketTextCache getTextCache() {
+        return textCache;
+    }
+
+    /**
+     * Sets the cache of shaped texts that is shared by the painters of this
+     * view. Views that display the same entrants, like a view and its
+     * overview, can share a single cache.
+     *
+     * @param textCache the new text cache
+     * @throws IllegalArgumentException if the cache is {@code null}
+     */
+    public void setTextCache(BracketTextCache textCache) {
+        if (textCache == null) {
+            throw new IllegalArgumentException("Text cache must be not null");
+        }
+        BracketTextCache old = this.textCache;
+        this.textCache = textCache;
+        firePropertyChange("textCache", old, textCache);
+        repaint();
     }
 
     /**
@@ -357,7 +671,10 @@ public class JBracketView<T> extends JComponent
      * @param lineRenderer a new painter or {@code null} if none should be used.
      */
     public void setLineRenderer(BracketLinePainter lineRenderer) {
+        BracketLinePainter old = this.lineRenderer;
         this.lineRenderer = lineRenderer;
+        firePropertyChange("lineRenderer", old, lineRenderer);
+        repaint();
     }
 
     /**
@@ -377,172 +694,885 @@ public class JBracketView<T> extends JComponent
      *         should be used.
      */
     public void setLocator(BracketLocator locator) {
+        BracketLocator old = this.locator;
         this.locator = locator;
+        firePropertyChange("locator", old, locator);
+        requestBracketLayout();
+        repaint();
     }
 
     /**
-     * {@inheritDoc}
+     * Returns the most recently computed layout of this view. The returned
+     * layout may be outdated while a new layout is being computed in the
+     * background.
      *
-     * @param g the <code>Graphics</code> context in which to paint
+     * @return the current layout or {@code null} if no layout has been
+     *         computed yet
+     * @see BracketLayout
      */
-    @Override
-    public synchronized void paint(Graphics g) {
-        super.paint(g);
-        if (dataModel != null && dataModel.getColumnCount() > 0) {
-            paintBrackets(g);
-
-            int height = constraints.ipadX
-                    + (dataModel.getRowCount(0) * (constraints.bracketHeight + constraints.spaceY));
-            int width = constraints.ipadY
-                    + ((dataModel.getColumnCount()) * (constraints.bracketWidth + constraints.spaceX));
-            setPreferredSize(new Dimension(width, height));
-        }
+    public BracketLayout getBracketLayout() {
+        return bracketLayout;
     }
 
     /**
-     * Paints all brackets stored inside this view.
+     * Returns the geometry of the lines between the cells of the most
+     * recently computed layout. The returned object is cached until a new
+     * layout has been computed.
      *
-     * @param g the Graphics context in which to paint
+     * @return the line geometry or {@code null} if no layout has been
+     *         computed yet
+     * @see BracketLines
      */
-    public synchronized void paintBrackets(Graphics g) {
-        if (dataModel == null || dataModel.getColumnCount() == 0) {
-            return;
+    public BracketLines getBracketLines() {
+        BracketLayout layout = bracketLayout;
+        if (layout == null) {
+            return null;
         }
-
-        int x, y;
-        for (int i = 0; i < dataModel.getColumnCount(); i++) {
-            x = getLocator().getX(i, constraints);
-
-            for (int j = 0; j < dataModel.getRowCount(i); j++) {
-                T value = dataModel.getValueAt(i, j);
-                y = getLocator().getY(i, j, constraints);
-
-                if (cellRenderer != null) {
-                    Component component = getCellRenderer().getBracketCellRendererComponent(
-                            this, value, i, j);
-
-                    rendererPane.paintComponent(g, component, this, x, y,
-                                                constraints.bracketWidth, constraints.bracketHeight,
-                                                true);
-                }
-                if (lineRenderer != null) {
-                    getLinePainter().paintLine(this, g, i, j);
-                }
-            }
+        BracketLines lines = bracketLines;
+        if (lines == null || lines.getLayout() != layout) {
+            lines        = new BracketLines(layout, getLocator(), constraints);
+            bracketLines = lines;
         }
-        rendererPane.removeAll();
+        return lines;
     }
 
     /**
-     * Returns the amount of brackets/cells in this view.
+     * Returns the preferred size of this view, which is computed from the
+     * current layout unless a preferred size has been set explicitly.
      *
-     * @return the amount of brackets/cells
+     * @return the preferred size
      */
-    public int getBracketCount() {
-        int count = 0;
-        for (int i = 0; i < dataModel.getColumnCount(); i++) {
-            count += dataModel.getRowCount(i);
+    @Override
+    public Dimension getPreferredSize() {
+        if (isPreferredSizeSet() || dataModel == null) {
+            return super.getPreferredSize();
         }
-        return count;
+        BracketLayout layout = validateBracketLayout();
+        return new Dimension(layout.getWidth(), layout.getHeight());
     }
 
     /**
-     * Returns the object that stores all mutable attributes of this view.
+     * Paints the brackets of this view. If the back buffer is enabled, the
+     * visible region is copied from the buffered tiles, and only tiles with
+     * dirty regions are rendered again.
      *
-     * @return the {@code BracketConstraints} of this view
+     * @param g the <code>Graphics</code> context in which to paint
+     * @see #setBackBufferEnabled(boolean)
      */
-    public BracketConstraints getConstraints() {
-        return constraints;
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (dataModel == null || dataModel.getColumnCount() == 0) {
+            return;
+        }
+        if (!backBufferEnabled || isPaintingForPrint() || !backBuffer.paint(g)) {
+            paintBrackets(g);
+        }
     }
 
     /**
-     * Sets new {@code BracketConstraints}. Note that the new constraints will
-     * be used if they are not {@code null}.
+     * Marks the given region of the back buffer as dirty, before the region
+     * is repainted.
      *
-     * @param constraints the new constraints to use
+     * @param tm this parameter is not used
+     * @param x the x value of the dirty region
+     * @param y the y value of the dirty region
+     * @param width the width of the dirty region
+     * @param height the height of the dirty region
      */
-    public void setConstraints(BracketConstraints constraints) {
-        if (constraints != null) {
-            this.constraints = constraints;
+    @Override
+    public void repaint(long tm, int x, int y, int width, int height) {
+        if (backBuffer != null) {
+            backBuffer.invalidate(x, y, width, height);
         }
+        super.repaint(tm, x, y, width, height);
+    }
 
+    /**
+     * Returns whether this view keeps its rendered brackets in a back
+     * buffer.
+     *
+     * @return the value of the {@code backBufferEnabled} property
+     */
+    public boolean isBackBufferEnabled() {
+        return backBufferEnabled;
     }
 
     /**
-     * Returns the line color.
+     * Turns the retained back buffer of this view on or off. The buffer
+     * keeps the rendered brackets in tiles of video memory, so that exposing
+     * or scrolling over unchanged cells only copies the tiles. Repaint
+     * requests mark the affected regions of the tiles as dirty, which are
+     * rendered again the next time they are painted.
+     * <p>
+     * The buffer is enabled by default. It is bypassed when printing and
+     * while the view is not displayable.
+     *
+     * @see #setBackBufferCapacity(long)
      *
-     * @return the line color.
+     * @param backBufferEnabled whether the back buffer should be used
      */
-    public Color getLineColor() {
-        return lineColor;
+    public void setBackBufferEnabled(boolean backBufferEnabled) {
+        boolean old = this.backBufferEnabled;
+        this.backBufferEnabled = backBufferEnabled;
+        if (!backBufferEnabled) {
+            backBuffer.flush();
+        }
+        firePropertyChange("backBufferEnabled", old, backBufferEnabled);
+        repaint();
     }
 
     /**
-     * Sets a new line color (must be non-null).
+     * Returns the maximum amount of bytes the back buffer of this view may
+     * use.
      *
-     * @param lineColor the new line color
+     * @return the value of the {@code backBufferCapacity} property
      */
-    public void setLineColor(Color lineColor) {
-        this.lineColor = lineColor;
+    public long getBackBufferCapacity() {
+        return backBuffer.getCapacity();
     }
 
     /**
-     * Returns the next {@code BracketModel} position that matches the given
-     * {@code Predicate}. Note that the iteration starts at columnCount - 2
-     * and moves backwards to 0.
+     * Sets the maximum amount of bytes the back buffer of this view may use.
+     * The buffer keeps tiles of 512 x 512 pixels in a least-recently-used
+     * cache, so its memory doesn't grow with the size of the bracket. Tiles
+     * around the visible region are rendered ahead of time in the
+     * background, as long as they fit into the capacity next to the visible
+     * tiles. The capacity should therefore exceed the size of the visible
+     * region, otherwise visible tiles evict each other on every paint.
      * <p>
-     * The returned point can be used to get the value of the next bracket/
-     * cell:
-     * <pre>
-     * {@code
-     *  BracketModel<Integer> model = view.getModel();
-     *  Point next = view.getNextPosition(x -> x == 10);
+     * The default capacity is 64 MiB. If it is smaller than a single tile,
+     * the brackets are painted without the back buffer.
      *
-     *  Integer nextValue = mode.getValueAt(next.x, next.y);
-     * }
-     * </pre>
-     *
-     * @param predicate the filter to use
-     * @return the model position for the filtered cell
+     * @param capacity the maximum amount of bytes
+     * @throws IllegalArgumentException if the capacity is negative
      */
-    public Point getNextPosition(Predicate<? super T> predicate) {
-        for (int i = dataModel.getColumnCount() - 2; i >= 0; i--) {
-            for (int j = 0; j < dataModel.getRowCount(i); j++) {
-                T value = dataModel.getValueAt(i, j);
-                if (predicate.test(value)) {
-                    return new Point(i + 1, j / 2);
-                }
-            }
+    public void setBackBufferCapacity(long capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be not negative: " + capacity);
         }
-        return null;
+        long old = backBuffer.getCapacity();
+        backBuffer.setCapacity(capacity);
+        firePropertyChange("backBufferCapacity", old, capacity);
+        repaint();
     }
 
-    /*
-     * --- The Scrollable Implementation ---
+    /**
+     * Discards the back buffer, because the new look and feel may change
+     * the colors and fonts used by the cell renderers and painters.
      */
+    @Override
+    public void updateUI() {
+        super.updateUI();
+        if (backBuffer != null) {
+            backBuffer.flush();
+        }
+    }
 
     /**
-     * Computes the size of viewport.
-     *
-     * @return the preferredSize of a <code>JViewport</code> whose view
-     *         is this <code>Scrollable</code>
-     * @see JViewport#getPreferredSize
+     * Discards the back buffer, which may have been rendered for a
+     * different graphics configuration or with outdated UI defaults.
      */
     @Override
-    public Dimension getPreferredScrollableViewportSize() {
-        Insets insets = getInsets();
-        // delta value to be able to paint the current Border
-        int dX = insets.left + insets.right;
-        int dY = insets.top + insets.bottom;
+    public void addNotify() {
+        super.addNotify();
+        backBuffer.flush();
+    }
 
-        Dimension preferredSize = getPreferredSize();
-        preferredSize.width += dX;
-        preferredSize.height += dY;
-        return preferredSize;
+    /**
+     * Releases the back buffer.
+     */
+    @Override
+    public void removeNotify() {
+        super.removeNotify();
+        backBuffer.flush();
     }
 
     /**
-     * Returns the distance to scroll to expose the next or previous row (for
+     * Paints all brackets stored inside this view.
+     *
+     * @param g the Graphics context in which to paint
+     */
+    public synchronized void paintBrackets(Graphics g) {
+        paintBrackets(g, true);
+    }
+
+    /**
+     * Paints all brackets stored inside this view. Animations and drag
+     * feedback are only painted if {@code transientState} is {@code true},
+     * because their state is confined to the event dispatch thread.
+     *
+     * @param g the Graphics context in which to paint
+     * @param transientState whether animations and drag feedback should be
+     *         painted
+     */
+    synchronized void paintBrackets(Graphics g, boolean transientState) {
+        if (dataModel == null || dataModel.getColumnCount() == 0) {
+            return;
+        }
+
+        paintBrackets(g, validateBracketLayout(), cellRenderer, rendererPane, transientState);
+        if (transientState) {
+            animator.paintAnimations(g, this::paintCell);
+        }
+        rendererPane.removeAll();
+    }
+
+    /**
+     * Paints the cells and lines of the given layout with the cell painter of
+     * this view or, if there is none, with the given cell renderer. This
+     * method isn't synchronized, so the renderer and the renderer pane must
+     * not be used by any other thread at the same time.
+     *
+     * @param g the Graphics context in which to paint
+     * @param layout the layout of the brackets
+     * @param renderer the cell renderer or {@code null} if only lines should
+     *         be painted if there is no cell painter
+     * @param pane the renderer pane that stamps the renderer components
+     * @param transientState whether drag feedback should be painted
+     */
+    void paintBrackets(Graphics g, BracketLayout layout, BracketCellRenderer<? super T> renderer,
+                       CellRendererPane pane, boolean transientState) {
+        BracketCellPainter<? super T> painter = cellPainter;
+        Rectangle clip   = g.getClipBounds();
+        int       width  = layout.getCellWidth();
+        int       height = layout.getCellHeight();
+        Rectangle bounds = new Rectangle(width, height);
+
+        // In elimination layouts, the lines of a cell never leave the extent
+        // of its match, so only the rows whose matches may intersect the
+        // clip across the orientation are visited. Other locators may place
+        // the successor of a cell anywhere.
+        BracketLocator locator = getLocator();
+        boolean cull     = clip != null && (locator instanceof BracketConstraints
+                                            || locator instanceof MirroredBracketLocator);
+        boolean vertical = layout.getOrientation() == BracketConstraints.VERTICAL;
+        long    pad      = constraints.lineThickness;
+        int     min      = !cull ? Integer.MIN_VALUE
+                : (int) Math.max(Integer.MIN_VALUE, (vertical ? clip.x : clip.y) - pad);
+        int     max      = !cull ? Integer.MAX_VALUE
+                : (int) Math.min(Integer.MAX_VALUE, (vertical ? (long) clip.x + clip.width
+                                                              : (long) clip.y + clip.height) + pad);
+        int[]   ranges   = new int[4];
+
+        int columnCount = Math.min(layout.getColumnCount(), dataModel.getColumnCount());
+        int x, y;
+        for (int i = 0; i < columnCount; i++) {
+            int rowCount = Math.min(layout.getRowCount(i), dataModel.getRowCount(i));
+            int count    = layout.getRowRanges(i, min, max, ranges);
+
+            for (int k = 0; k < count; k += 2) {
+                int last = Math.min(ranges[k + 1], rowCount - 1);
+                for (int j = ranges[k]; j <= last; j++) {
+                    x = layout.getX(i, j);
+                    y = layout.getY(i, j);
+
+                    if ((painter != null || renderer != null)
+                            && !(transientState && animator.isAnimating(i, j))
+                            && (clip == null || clip.intersects(x, y, width, height))) {
+                        T value = dataModel.getValueAt(i, j);
+                        boolean selected = selectionModel.isSelected(layout.getCellIndex(i, j));
+                        bounds.setLocation(x, y);
+
+                        if (transientState && isCell(dragCell, i, j)) {
+                            paintDragSource(g, painter, renderer, pane, value, i, j, selected, bounds);
+                        } else {
+                            paintValue(g, painter, renderer, pane, value, i, j, selected, bounds);
+                        }
+                        if (transientState && isCell(dropCell, i, j)) {
+                            paintDropTarget(g, x, y, width, height);
+                        }
+                    }
+                    if (lineRenderer != null) {
+                        getLinePainter().paintLine(this, g, i, j);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Animates the advancement of the value at the given cell into the next
+     * column, i.e. into the cell at {@code (column + 1, row / 2)}. The value
+     * should already be stored in the target cell; the animation moves it
+     * from the given cell to its new position.
+     * <p>
+     * Nothing happens if either cell doesn't exist or the animation duration
+     * is {@code 0}.
+     *
+     * @param column the column of the advancing cell
+     * @param row the row of the advancing cell
+     * @see #setAnimationDuration(int)
+     */
+    public void animateAdvancement(int column, int row) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> animateAdvancement(column, row));
+            return;
+        }
+        Rectangle source = getCellBounds(column, row);
+        if (source != null) {
+            animator.animate(source, column + 1, row / 2);
+        }
+    }
+
+    /**
+     * Animates the insertion of the value at the given cell by fading it in.
+     * <p>
+     * Nothing happens if the cell doesn't exist or the animation duration
+     * is {@code 0}.
+     *
+     * @param column the column of the inserted cell
+     * @param row the row of the inserted cell
+     * @see #setAnimationDuration(int)
+     */
+    public void animateInsertion(int column, int row) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> animateInsertion(column, row));
+            return;
+        }
+        animator.animate(null, column, row);
+    }
+
+    /**
+     * Returns the duration of cell animations in milliseconds.
+     *
+     * @return the animation duration
+     */
+    public int getAnimationDuration() {
+        return animator.getDuration();
+    }
+
+    /**
+     * Sets the duration of cell animations in milliseconds. A duration of
+     * {@code 0} disables animations. The default value is {@code 250}.
+     *
+     * @param duration the new duration
+     * @throws IllegalArgumentException if the duration is negative
+     */
+    public void setAnimationDuration(int duration) {
+        animator.setDuration(duration);
+    }
+
+    /**
+     * Returns the bounds of the cell at the given column and row in the
+     * coordinate system of this view.
+     *
+     * @param column the column index
+     * @param row the cell's row index
+     * @return the bounds of the cell or {@code null} if there is no such
+     *         cell
+     */
+    public Rectangle getCellBounds(int column, int row) {
+        if (dataModel == null || column < 0 || row < 0
+                || column >= dataModel.getColumnCount()
+                || row >= dataModel.getRowCount(column)) {
+            return null;
+        }
+
+        BracketLocator locator = getLocator();
+        BracketLayout  layout  = bracketLayout;
+        if (layout != null && layout.getCellIndex(column, row) != -1
+                && layout.isValid(locator, constraints)) {
+            return new Rectangle(layout.getX(column, row), layout.getY(column, row),
+                                 layout.getCellWidth(), layout.getCellHeight());
+        }
+        if (constraints.isVertical()) {
+            BracketConstraints transposed = constraints.transpose();
+            BracketLocator     horizontal = BracketLayout.getHorizontalLocator(locator, constraints);
+            return new Rectangle(horizontal.getY(column, row, transposed),
+                                 horizontal.getX(column, row, transposed),
+                                 constraints.bracketWidth, constraints.bracketHeight);
+        }
+        return new Rectangle(locator.getX(column, row, constraints),
+                             locator.getY(column, row, constraints),
+                             constraints.bracketWidth, constraints.bracketHeight);
+    }
+
+    /**
+     * Returns the cell at the given location.
+     *
+     * @param location the location in the coordinate system of this view
+     * @return the column ({@code x}) and row ({@code y}) of the cell, or
+     *         {@code null} if there is no cell at the given location
+     */
+    public Point getCellAt(Point location) {
+        if (dataModel == null || dataModel.getColumnCount() == 0) {
+            return null;
+        }
+        BracketLayout layout = validateBracketLayout();
+        int           index  = layout.getCellIndexAt(location.x, location.y);
+        return index == -1 ? null : new Point(layout.getColumn(index), layout.getRow(index));
+    }
+
+    /**
+     * Returns whether cells can be dragged.
+     *
+     * @return the value of the {@code dragEnabled} property
+     */
+    public boolean getDragEnabled() {
+        return dragEnabled;
+    }
+
+    /**
+     * Turns drag and drop of cells on or off. Dropping a cell onto another
+     * cell of the same column swaps both values, which is handled by the
+     * {@code TransferHandler} of this view. By default, a
+     * {@code BracketTransferHandler} is installed and dragging is disabled.
+     *
+     * @param dragEnabled whether cells can be dragged
+     * @see BracketTransferHandler
+     */
+    public void setDragEnabled(boolean dragEnabled) {
+        boolean old = this.dragEnabled;
+        this.dragEnabled = dragEnabled;
+        firePropertyChange("dragEnabled", old, dragEnabled);
+    }
+
+    /**
+     * Returns the cell that is currently dragged.
+     */
+    Point getDragCell() {
+        return dragCell;
+    }
+
+    /**
+     * Sets the cell that is currently dragged and repaints the old and the
+     * new cell.
+     */
+    void setDragCell(Point cell) {
+        Point old = dragCell;
+        dragCell = cell;
+        repaintCell(old, cell);
+    }
+
+    /**
+     * Sets the current drop target and repaints the old and the new cell.
+     */
+    void setDropCell(Point cell) {
+        Point old = dropCell;
+        dropCell = cell;
+        repaintCell(old, cell);
+    }
+
+    // repaints both cells and their connectors if they are different
+    private void repaintCell(Point old, Point cell) {
+        if (old == null ? cell == null : old.equals(cell)) {
+            return;
+        }
+        int pad = constraints.lineThickness;
+        for (Point p : new Point[]{old, cell}) {
+            Rectangle bounds = p == null ? null : getConnectedBounds(p.x, p.y);
+            if (bounds != null) {
+                bounds.grow(pad, pad);
+                repaint(bounds);
+            }
+        }
+    }
+
+    // the bounds of a cell, united with the cells it is connected to: the
+    // two feeding cells and the cell the winner advances to. The connectors
+    // between them lie within these bounds.
+    private Rectangle getConnectedBounds(int column, int row) {
+        Rectangle bounds = getCellBounds(column, row);
+        if (bounds == null) {
+            return null;
+        }
+        Rectangle[] connected = {
+                getCellBounds(column - 1, 2 * row),
+                getCellBounds(column - 1, 2 * row + 1),
+                getCellBounds(column + 1, row / 2)
+        };
+        for (Rectangle r : connected) {
+            if (r != null) {
+                bounds = bounds.union(r);
+            }
+        }
+        return bounds;
+    }
+
+    /**
+     * Returns the object that provides the tooltip text of each cell.
+     *
+     * @return the current tooltip provider, or {@code null}
+     */
+    public BracketToolTipProvider<? super T> getToolTipProvider() {
+        return toolTipProvider;
+    }
+
+    /**
+     * Sets the object that provides the tooltip text of each cell. The view
+     * is registered with the {@code ToolTipManager} as long as a provider
+     * is set.
+     *
+     * @param toolTipProvider the new provider, or {@code null}
+     */
+    public void setToolTipProvider(BracketToolTipProvider<? super T> toolTipProvider) {
+        BracketToolTipProvider<? super T> oldProvider = this.toolTipProvider;
+        this.toolTipProvider = toolTipProvider;
+        toolTipCache.invalidateAll();
+        if (toolTipProvider != null) {
+            ToolTipManager.sharedInstance().registerComponent(this);
+        } else if (getToolTipText() == null) {
+            ToolTipManager.sharedInstance().unregisterComponent(this);
+        }
+        firePropertyChange("toolTipProvider", oldProvider, toolTipProvider);
+    }
+
+    /**
+     * Returns the tooltip text of the cell under the mouse if a
+     * {@code BracketToolTipProvider} has been set. Otherwise, the tooltip
+     * text of this view is returned.
+     *
+     * @param event the mouse event
+     * @return the tooltip text
+     */
+    @Override
+    public String getToolTipText(MouseEvent event) {
+        BracketToolTipProvider<? super T> provider = toolTipProvider;
+        if (provider == null || dataModel == null || dataModel.getColumnCount() == 0) {
+            return super.getToolTipText(event);
+        }
+
+        BracketLayout layout = validateBracketLayout();
+        int           index  = layout.getCellIndexAt(event.getX(), event.getY());
+        if (index == -1) {
+            return super.getToolTipText(event);
+        }
+
+        int column = layout.getColumn(index);
+        int row    = layout.getRow(index);
+        if (row >= dataModel.getRowCount(column)) {
+            return null;
+        }
+        return toolTipCache.get(layout, index, () -> provider.getToolTipText(
+                this, dataModel.getValueAt(column, row), column, row));
+    }
+
+    /**
+     * Returns the model that stores the selected cells.
+     *
+     * @return the current selection model
+     */
+    public BracketSelectionModel getSelectionModel() {
+        return selectionModel;
+    }
+
+    /**
+     * Sets the model that stores the selected cells.
+     *
+     * @param selectionModel the new selection model
+     * @throws IllegalArgumentException if the selection model is {@code null}
+     */
+    public void setSelectionModel(BracketSelectionModel selectionModel) {
+        if (selectionModel == null) {
+            throw new IllegalArgumentException("SelectionModel must be not null");
+        }
+        BracketSelectionModel oldModel = this.selectionModel;
+        if (oldModel != null) {
+            oldModel.removeBracketSelectionListener(handler);
+        }
+        this.selectionModel = selectionModel;
+        selectionModel.addBracketSelectionListener(handler);
+        firePropertyChange("selectionModel", oldModel, selectionModel);
+        repaint();
+    }
+
+    /**
+     * Returns whether the cell at the given column and row is selected.
+     *
+     * @param column the column index
+     * @param row the row index
+     * @return {@code true} if the cell is selected
+     */
+    public boolean isCellSelected(int column, int row) {
+        BracketLayout layout = bracketLayout;
+        return layout != null && selectionModel.isSelected(layout.getCellIndex(column, row));
+    }
+
+    /**
+     * Selects the cell at the given column and row according to the mode
+     * of the selection model. In {@code PATH_SELECTION} mode, the cell and
+     * all cells on its way to the final, i.e. {@code (column + 1, row / 2)}
+     * and so on, are selected.
+     *
+     * @param column the column index
+     * @param row the row index
+     */
+    public void selectCell(int column, int row) {
+        if (dataModel == null) {
+            return;
+        }
+        BracketLayout layout = validateBracketLayout();
+        int           index  = layout.getCellIndex(column, row);
+        if (index == -1) {
+            return;
+        }
+        leadColumn = column;
+        leadRow    = row;
+
+        if (selectionModel.getSelectionMode() != BracketSelectionModel.PATH_SELECTION) {
+            selectionModel.setSelection(index);
+            return;
+        }
+
+        int[] path = new int[layout.getColumnCount() - column];
+        int   size = 0;
+        while (index != -1) {
+            path[size++] = index;
+            column++;
+            row /= 2;
+            index = layout.getCellIndex(column, row);
+        }
+        selectionModel.setSelection(Arrays.copyOf(path, size));
+    }
+
+    /**
+     * Moves the selection from the most recently selected cell into the
+     * given direction and scrolls the new cell into view.
+     * <ul>
+     *     <li>{@link SwingConstants#WEST}: the upper cell of the feeding
+     *     match in the previous column, i.e. {@code (column - 1, 2 * row)}</li>
+     *     <li>{@link SwingConstants#EAST}: the cell the winner advances to,
+     *     i.e. {@code (column + 1, row / 2)}</li>
+     *     <li>{@link SwingConstants#NORTH} and {@link SwingConstants#SOUTH}:
+     *     the sibling within the same match, i.e. {@code (column, row ^ 1)}
+     *     (see {@link BracketSeeding#getOpponentRow(int)}), if it lies in
+     *     that direction</li>
+     * </ul>
+     * If the neighbouring column has as many rows as the current one (e.g.
+     * in a grid), the row is kept when moving left or right. If no cell has
+     * been selected yet, the first cell is selected.
+     * <p>
+     * Directions refer to the screen, so in the
+     * {@linkplain BracketConstraints#VERTICAL vertical} orientation,
+     * {@code NORTH} and {@code SOUTH} move between columns, and {@code WEST}
+     * and {@code EAST} within a column. With a {@code MirroredBracketLocator},
+     * {@code WEST} and {@code EAST} are swapped in the right half, which
+     * flows from right to left. The two cells of the second to last column
+     * lie side by side, so they are left and entered through the final
+     * between them: {@code WEST} and {@code EAST} move from the final to the
+     * cell on that side, and {@code NORTH} and {@code SOUTH} don't move.
+     *
+     * @param direction one of {@code NORTH}, {@code SOUTH}, {@code WEST}
+     *         or {@code EAST} from {@code SwingConstants}
+     * @throws IllegalArgumentException if the direction is not supported
+     */
+    public void moveSelection(int direction) {
+        if (dataModel == null || dataModel.getColumnCount() == 0) {
+            return;
+        }
+
+        BracketLayout layout = validateBracketLayout();
+        int           column = leadColumn;
+        int           row    = leadRow;
+        if (layout.getCellIndex(column, row) == -1) {
+            column = 0;
+            row    = 0;
+        } else {
+            int            rowCount = layout.getRowCount(column);
+            int            last     = layout.getColumnCount() - 1;
+            int            side     = constraints.isVertical() ? transposeDirection(direction) : direction;
+            BracketLocator locator  = getLocator();
+            boolean        mirrored = locator instanceof MirroredBracketLocator;
+            if (mirrored && column > 0 && column == last
+                    && (side == SwingConstants.WEST || side == SwingConstants.EAST)) {
+                // the final lies between the two cells of the previous
+                // column, which are reached from their own side
+                column--;
+                row = side == SwingConstants.WEST ? 0 : 1;
+            } else {
+                if (mirrored && column == last - 1
+                        && (side == SwingConstants.NORTH || side == SwingConstants.SOUTH)) {
+                    // both cells of the second to last column lie side by side
+                    return;
+                }
+                if (mirrored && ((MirroredBracketLocator) locator).isMirrored(column, row)) {
+                    // the right half flows from right to left
+                    side = side == SwingConstants.WEST ? SwingConstants.EAST
+                         : side == SwingConstants.EAST ? SwingConstants.WEST : side;
+                }
+                switch (side) {
+                    case SwingConstants.NORTH:
+                        if ((row & 1) == 1) {
+                            row = BracketSeeding.getOpponentRow(row);
+                        }
+                        break;
+                    case SwingConstants.SOUTH:
+                        if ((row & 1) == 0) {
+                            row = BracketSeeding.getOpponentRow(row);
+                        }
+                        break;
+                    case SwingConstants.WEST:
+                        column--;
+                        if (layout.getRowCount(column) > rowCount) {
+                            row *= 2;
+                        }
+                        break;
+                    case SwingConstants.EAST:
+                        column++;
+                        if (layout.getRowCount(column) < rowCount) {
+                            row /= 2;
+                        }
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unsupported direction: " + direction);
+                }
+            }
+            if (layout.getCellIndex(column, row) == -1) {
+                return;
+            }
+        }
+
+        selectCell(column, row);
+        Rectangle bounds = getCellBounds(column, row);
+        if (bounds != null) {
+            scrollRectToVisible(bounds);
+        }
+    }
+
+    /**
+     * Returns the maximum amount of repaints per second that are caused by
+     * model changes.
+     *
+     * @return the repaint frame rate
+     */
+    public int getRepaintFrameRate() {
+        return repaintScheduler.getFrameRate();
+    }
+
+    /**
+     * Sets the maximum amount of repaints per second that are caused by
+     * model changes. All changes that arrive within one frame are coalesced
+     * into a single repaint. The default value is {@code 60}.
+     *
+     * @param frameRate the new frame rate (must be positive)
+     * @throws IllegalArgumentException if the frame rate is not positive
+     */
+    public void setRepaintFrameRate(int frameRate) {
+        repaintScheduler.setFrameRate(frameRate);
+    }
+
+    /**
+     * Returns the amount of brackets/cells in this view.
+     *
+     * @return the amount of brackets/cells
+     */
+    public int getBracketCount() {
+        int count = 0;
+        for (int i = 0; i < dataModel.getColumnCount(); i++) {
+            count += dataModel.getRowCount(i);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the object that stores all mutable attributes of this view.
+     *
+     * @return the {@code BracketConstraints} of this view
+     */
+    public BracketConstraints getConstraints() {
+        return constraints;
+    }
+
+    /**
+     * Sets new {@code BracketConstraints}. Note that the new constraints will
+     * be used if they are not {@code null}.
+     *
+     * @param constraints the new constraints to use
+     */
+    public void setConstraints(BracketConstraints constraints) {
+        if (constraints != null) {
+            BracketConstraints old = this.constraints;
+            this.constraints = constraints;
+            firePropertyChange("constraints", old, constraints);
+            requestBracketLayout();
+            repaint();
+        }
+    }
+
+    /**
+     * Returns the line color. If no line color has been set, the lines are
+     * painted with the {@linkplain #getForeground() foreground color} of this
+     * view.
+     *
+     * @return the line color or {@code null} if the foreground color is used
+     */
+    public Color getLineColor() {
+        return lineColor;
+    }
+
+    /**
+     * Sets a new line color. By default, no line color is set and the lines
+     * are painted with the {@linkplain #getForeground() foreground color} of
+     * this view.
+     *
+     * @param lineColor the new line color or {@code null} if the foreground
+     *         color should be used
+     */
+    public void setLineColor(Color lineColor) {
+        Color old = this.lineColor;
+        this.lineColor = lineColor;
+        firePropertyChange("lineColor", old, lineColor);
+        repaint();
+    }
+
+    /**
+     * Returns the next {@code BracketModel} position that matches the given
+     * {@code Predicate}. Note that the iteration starts at columnCount - 2
+     * and moves backwards to 0.
+     * <p>
+     * The returned point can be used to get the value of the next bracket/
+     * cell:
+     * <pre>
+     * {@code
+     *  BracketModel<Integer> model = view.getModel();
+     *  Point next = view.getNextPosition(x -> x == 10);
+     *
+     *  Integer nextValue = mode.getValueAt(next.x, next.y);
+     * }
+     * </pre>
+     *
+     * @param predicate the filter to use
+     * @return the model position for the filtered cell
+     */
+    public Point getNextPosition(Predicate<? super T> predicate) {
+        for (int i = dataModel.getColumnCount() - 2; i >= 0; i--) {
+            for (int j = 0; j < dataModel.getRowCount(i); j++) {
+                T value = dataModel.getValueAt(i, j);
+                if (predicate.test(value)) {
+                    return new Point(i + 1, j / 2);
+                }
+            }
+        }
+        return null;
+    }
+
+    /*
+     * --- The Scrollable Implementation ---
+     */
+
+    /**
+     * Computes the size of viewport.
+     *
+     * @return the preferredSize of a <code>JViewport</code> whose view
+     *         is this <code>Scrollable</code>
+     * @see JViewport#getPreferredSize
+     */
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        Insets insets = getInsets();
+        // delta value to be able to paint the current Border
+        int dX = insets.left + insets.right;
+        int dY = insets.top + insets.bottom;
+
+        Dimension preferredSize = getPreferredSize();
+        preferredSize.width += dX;
+        preferredSize.height += dY;
+        return preferredSize;
+    }
+
+    /**
+     * Returns the distance to scroll to expose the next or previous row (for
      * vertical scrolling) or column (for horizontal scrolling).
      * <p>
      *
@@ -605,13 +1635,781 @@ public class JBracketView<T> extends JComponent
         return false;
     }
 
+    /**
+     * Returns a layout that can be used for painting. The first layout is
+     * computed directly, and so are all layouts of views that are not
+     * showing, e.g. when painting into an image. Outdated layouts of a
+     * showing view are returned as they are while the new layout is being
+     * computed in the background.
+     */
+    BracketLayout validateBracketLayout() {
+        BracketLayout  layout  = bracketLayout;
+        BracketLocator locator = getLocator();
+
+        boolean valid = layout != null && layout.isValid(locator, constraints)
+                && matchesModel(layout);
+        if (!valid) {
+            if (layout == null || !isShowing()) {
+                layout        = BracketLayout.compute(dataModel, locator, constraints);
+                bracketLayout = layout;
+            } else {
+                requestBracketLayout();
+            }
+        }
+        return layout;
+    }
+
+    private boolean matchesModel(BracketLayout layout) {
+        int columnCount = dataModel.getColumnCount();
+        if (layout.getColumnCount() != columnCount) {
+            return false;
+        }
+        for (int i = 0; i < columnCount; i++) {
+            if (layout.getRowCount(i) != dataModel.getRowCount(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void requestBracketLayout() {
+        BracketModel<T> model = dataModel;
+        if (model != null && bracketLayout != null) {
+            layoutWorker.request(model, getLocator(), constraints);
+        }
+    }
+
+    private void installBracketLayout(BracketLayout layout) {
+        bracketLayout = layout;
+        revalidate();
+        repaint();
+    }
+
+    // maps the directions of the vertical orientation onto the horizontal one
+    private static int transposeDirection(int direction) {
+        switch (direction) {
+            case SwingConstants.NORTH:
+                return SwingConstants.WEST;
+            case SwingConstants.SOUTH:
+                return SwingConstants.EAST;
+            case SwingConstants.WEST:
+                return SwingConstants.NORTH;
+            case SwingConstants.EAST:
+                return SwingConstants.SOUTH;
+            default:
+                return direction;
+        }
+    }
+
+    private static boolean isCell(Point cell, int column, int row) {
+        return cell != null && cell.x == column && cell.y == row;
+    }
+
+    // the dragged cell stays in place, but is painted translucent
+    private void paintDragSource(Graphics g, BracketCellPainter<? super T> painter,
+                                 BracketCellRenderer<? super T> renderer, CellRendererPane pane,
+                                 T value, int column, int row, boolean selected, Rectangle bounds) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        try {
+            g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.4f));
+            paintValue(g2, painter, renderer, pane, value, column, row, selected, bounds);
+        } finally {
+            g2.dispose();
+        }
+    }
+
+    // paints a value with the given painter or, if it is null, stamps the
+    // component of the given renderer
+    private void paintValue(Graphics g, BracketCellPainter<? super T> painter,
+                            BracketCellRenderer<? super T> renderer, CellRendererPane pane,
+                            T value, int column, int row, boolean selected, Rectangle bounds) {
+        if (painter != null) {
+            // the painter may change the color, the font, the stroke and the
+            // hints; they must not leak into the next cell or the lines
+            Graphics2D cg = (Graphics2D) g.create();
+            try {
+                painter.paintCell(cg, this, value, column, row, selected, bounds);
+            } finally {
+                cg.dispose();
+            }
+            return;
+        }
+        synchronized (RENDERER_LOCK) {
+            Component component = renderer.getBracketCellRendererComponent(
+                    this, value, column, row, selected);
+
+            pane.paintComponent(g, component, this, bounds.x, bounds.y,
+                                bounds.width, bounds.height, true);
+        }
+    }
+
+    private void paintDropTarget(Graphics g, int x, int y, int width, int height) {
+        Color color = UIManager.getColor("List.dropLineColor");
+        g.setColor(color != null ? color : getForeground());
+        g.drawRect(x, y, width - 1, height - 1);
+        g.drawRect(x + 1, y + 1, width - 3, height - 3);
+    }
+
+    /**
+     * Paints the value of a single cell with the current painter or renderer
+     * into the given bounds.
+     */
+    void paintCell(Graphics g, int column, int row, Rectangle bounds) {
+        BracketCellPainter<? super T> painter = cellPainter;
+        if (painter != null || cellRenderer != null) {
+            T value = dataModel.getValueAt(column, row);
+            paintValue(g, painter, cellRenderer, rendererPane, value, column, row,
+                       isCellSelected(column, row), bounds);
+        }
+    }
+
     private void createFields() {
-        constraints  = new BracketConstraints();
-        rendererPane = new CellRendererPane();
+        constraints      = new BracketConstraints();
+        rendererPane     = new CellRendererPane();
+        repaintScheduler = new BracketRepaintScheduler(this);
+        layoutWorker     = new BracketLayoutWorker(this::installBracketLayout);
+        animator         = new BracketAnimator(this);
+        toolTipCache     = new BracketToolTipCache();
+        backBuffer       = new BracketBackBuffer(this);
+        textCache        = new BracketTextCache();
+        handler          = new Handler();
 
         add(rendererPane);
+        setSelectionModel(new DefaultBracketSelectionModel());
+        addMouseListener(handler);
+        addMouseMotionListener(handler);
+        installKeyboardActions();
+        installTransferHandler();
     }
 
-}
+    private void installTransferHandler() {
+        setTransferHandler(new BracketTransferHandler());
+        DropTarget dropTarget = getDropTarget();
+        if (dropTarget == null) {
+            // headless environments don't support drag and drop
+            return;
+        }
+        try {
+            // TransferHandler has no callback when the drag leaves the view
+            dropTarget.addDropTargetListener(new DropTargetAdapter() {
+                @Override
+                public void dragExit(DropTargetEvent dte) {
+                    setDropCell(null);
+                }
+
+                @Override
+                public void drop(DropTargetDropEvent dtde) {
+                    setDropCell(null);
+                }
+            });
+        } catch (TooManyListenersException e) {
+            // the drop target of Swing supports multiple listeners
+        }
+    }
+
+    private void installKeyboardActions() {
+        setFocusable(true);
+
+        InputMap  inputMap  = getInputMap(WHEN_FOCUSED);
+        ActionMap actionMap = getActionMap();
+        installNavigation(inputMap, actionMap, "selectPreviousRow", KeyEvent.VK_UP,
+                          SwingConstants.NORTH);
+        installNavigation(inputMap, actionMap, "selectNextRow", KeyEvent.VK_DOWN,
+                          SwingConstants.SOUTH);
+        installNavigation(inputMap, actionMap, "selectPreviousColumn", KeyEvent.VK_LEFT,
+                          SwingConstants.WEST);
+        installNavigation(inputMap, actionMap, "selectNextColumn", KeyEvent.VK_RIGHT,
+                          SwingConstants.EAST);
+    }
+
+    private void installNavigation(InputMap inputMap, ActionMap actionMap, String name,
+                                   int keyCode, int direction) {
+        inputMap.put(KeyStroke.getKeyStroke(keyCode, 0), name);
+        actionMap.put(name, new AbstractAction(name) {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                moveSelection(direction);
+            }
+        });
+    }
+
+    private class Handler extends MouseAdapter
+            implements BracketModelListener, BracketSelectionListener {
+
+        @Override
+        public void bracketChanged(BracketModelEvent e) {
+            int column = e.getColumn();
+            if (e.isStructureChange()) {
+                // flat cell indices are no longer valid
+                selectionModel.clearSelection();
+                requestBracketLayout();
+            }
+            if (e.isStructureChange() || column == BracketModelEvent.ALL_COLUMNS) {
+                toolTipCache.invalidateAll();
+            } else {
+                toolTipCache.invalidate(column, e.getFirstRow(), e.getLastRow());
+            }
+            if (e.isStructureChange() || column == BracketModelEvent.ALL_COLUMNS
+                    || e.getLastRow() - e.getFirstRow() >= BracketRepaintScheduler.MAX_DIRTY_CELLS) {
+                repaintScheduler.viewChanged();
+                return;
+            }
+
+            for (int row = e.getFirstRow(); row <= e.getLastRow(); row++) {
+                repaintScheduler.cellChanged(column, row);
+            }
+        }
+
+        @Override
+        public void selectionChanged(BracketSelectionEvent e) {
+            BracketLayout layout = bracketLayout;
+            if (layout == null) {
+                return;
+            }
+
+            int pad = constraints.lineThickness;
+            for (int index : e.getIndices()) {
+                Rectangle bounds = getCellBounds(layout.getColumn(index), layout.getRow(index));
+                if (bounds != null) {
+                    bounds.grow(pad, pad);
+                    repaint(bounds);
+                }
+            }
+        }
+
+        @Override
+        public void mousePressed(MouseEvent e) {
+            if (!SwingUtilities.isLeftMouseButton(e) || !isEnabled()) {
+                return;
+            }
+
+            requestFocusInWindow();
+            Point   cell   = getCellAt(e.getPoint());
+            boolean toggle = e.isControlDown() || e.isMetaDown();
+            pressedCell  = cell;
+            pressedPoint = e.getPoint();
+            if (cell == null) {
+                if (!toggle) {
+                    selectionModel.clearSelection();
+                }
+                return;
+            }
+
+            if (toggle && selectionModel.getSelectionMode()
+                    == BracketSelectionModel.MULTIPLE_SELECTION) {
+                int index = bracketLayout.getCellIndex(cell.x, cell.y);
+                leadColumn = cell.x;
+                leadRow    = cell.y;
+                if (selectionModel.isSelected(index)) {
+                    selectionModel.removeSelection(index);
+                } else {
+                    selectionModel.addSelection(index);
+                }
+            } else {
+                selectCell(cell.x, cell.y);
+            }
+        }
+
+        @Override
+        public void mouseReleased(MouseEvent e) {
+            pressedCell  = null;
+            pressedPoint = null;
+        }
+
+        @Override
+        public void mouseDragged(MouseEvent e) {
+            TransferHandler transferHandler = getTransferHandler();
+            if (!dragEnabled || pressedCell == null || transferHandler == null) {
+                return;
+            }
+
+            int threshold = DragSource.getDragThreshold();
+            if (Math.abs(e.getX() - pressedPoint.x) > threshold
+                    || Math.abs(e.getY() - pressedPoint.y) > threshold) {
+                setDragCell(pressedCell);
+                pressedCell = null;
+                transferHandler.exportAsDrag(JBracketView.this, e, TransferHandler.MOVE);
+            }
+        }
+    }
+
+    /*
+     * --- Accessibility Support ---
+     */
+
+    /**
+     * Gets the {@code AccessibleContext} associated with this view. For
+     * bracket views, the {@code AccessibleContext} takes the form of an
+     * {@code AccessibleJBracketView}.
+     *
+     * @return an {@code AccessibleJBracketView} that serves as the
+     *         {@code AccessibleContext} of this view
+     */
+    @Override
+    public AccessibleContext getAccessibleContext() {
+        if (accessibleContext == null) {
+            accessibleContext = new AccessibleJBracketView();
+        }
+        return accessibleContext;
+    }
+
+    /**
+     * This class implements accessibility support for the
+     * {@code JBracketView} class. Each cell is exposed as an accessible
+     * child, which is addressed by its flat cell index in the current
+     * {@code BracketLayout}.
+     * <p>
+     * Children are created when an assistive technology requests them,
+     * like the children of a {@code JList}. Only the most recently requested
+     * children are cached, so that repeated requests for the focused or
+     * selected cells return the same object, and an assistive technology
+     * that walks all children doesn't leave an object behind for every cell.
+     */
+    protected class AccessibleJBracketView extends AccessibleJComponent
+            implements AccessibleSelection, BracketModelListener, BracketSelectionListener,
+                       PropertyChangeListener {
+
+        // the amount of recently requested children that are kept
+        private static final int CHILD_CACHE_SIZE = 64;
+
+        // recently requested children by their flat cell index
+        private final Map<Integer, AccessibleBracketCell> children =
+                new LinkedHashMap<Integer, AccessibleBracketCell>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Integer, AccessibleBracketCell> eldest) {
+                        return size() > CHILD_CACHE_SIZE;
+                    }
+                };
+
+        private BracketModel<T> model;
+
+        /**
+         * Creates a new accessible context and starts listening to the
+         * model and the selection model of the view.
+         */
+        protected AccessibleJBracketView() {
+            super();
+            JBracketView.this.addPropertyChangeListener(this);
+            selectionModel.addBracketSelectionListener(this);
+            model = dataModel;
+            if (model != null) {
+                model.addBracketModelListener(this);
+            }
+        }
+
+        @Override
+        public void propertyChange(PropertyChangeEvent e) {
+            if ("model".equals(e.getPropertyName())) {
+                if (model != null) {
+                    model.removeBracketModelListener(this);
+                }
+                model = dataModel;
+                if (model != null) {
+                    model.addBracketModelListener(this);
+                }
+                structureChanged();
+            } else if ("selectionModel".equals(e.getPropertyName())) {
+                if (e.getOldValue() instanceof BracketSelectionModel) {
+                    ((BracketSelectionModel) e.getOldValue()).removeBracketSelectionListener(this);
+                }
+                selectionModel.addBracketSelectionListener(this);
+                firePropertyChange(ACCESSIBLE_SELECTION_PROPERTY, false, true);
+            }
+        }
 
+        @Override
+        public void bracketChanged(BracketModelEvent e) {
+            if (e.isStructureChange()) {
+                structureChanged();
+            } else {
+                firePropertyChange(ACCESSIBLE_VISIBLE_DATA_PROPERTY, false, true);
+            }
+        }
+
+        @Override
+        public void selectionChanged(BracketSelectionEvent e) {
+            firePropertyChange(ACCESSIBLE_SELECTION_PROPERTY, false, true);
+
+            int[] indices = e.getIndices();
+            if (indices.length > 0 && selectionModel.isSelected(indices[indices.length - 1])) {
+                AccessibleBracketCell cell = getCell(indices[indices.length - 1]);
+                if (cell != null) {
+                    firePropertyChange(ACCESSIBLE_ACTIVE_DESCENDANT_PROPERTY, null, cell);
+                }
+            }
+        }
+
+        private void structureChanged() {
+            synchronized (children) {
+                children.clear();
+            }
+            firePropertyChange(ACCESSIBLE_VISIBLE_DATA_PROPERTY, false, true);
+        }
+
+        /**
+         * Returns the child for the given flat cell index, which is created
+         * if necessary.
+         */
+        private AccessibleBracketCell getCell(int index) {
+            BracketLayout layout = bracketLayout;
+            if (dataModel == null || layout == null || index < 0
+                    || index >= layout.getCellCount()) {
+                return null;
+            }
+            synchronized (children) {
+                AccessibleBracketCell cell = children.get(index);
+                if (cell == null) {
+                    cell = new AccessibleBracketCell(index, layout.getColumn(index),
+                                                     layout.getRow(index));
+                    children.put(index, cell);
+                }
+                return cell;
+            }
+        }
+
+        /**
+         * Returns the accessible child of the cell at the given column and
+         * row.
+         *
+         * @param column the column index
+         * @param row the row index
+         * @return the accessible child or {@code null} if there is no cell
+         */
+        public Accessible getAccessibleCell(int column, int row) {
+            BracketLayout layout = bracketLayout;
+            return layout == null ? null : getCell(layout.getCellIndex(column, row));
+        }
+
+        @Override
+        public AccessibleRole getAccessibleRole() {
+            return AccessibleRole.LIST;
+        }
+
+        @Override
+        public AccessibleStateSet getAccessibleStateSet() {
+            AccessibleStateSet states = super.getAccessibleStateSet();
+            if (selectionModel.getSelectionMode() != BracketSelectionModel.SINGLE_SELECTION) {
+                states.add(AccessibleState.MULTISELECTABLE);
+            }
+            return states;
+        }
+
+        @Override
+        public int getAccessibleChildrenCount() {
+            BracketLayout layout = bracketLayout;
+            return dataModel == null || layout == null ? 0 : layout.getCellCount();
+        }
+
+        @Override
+        public Accessible getAccessibleChild(int i) {
+            return getCell(i);
+        }
+
+        @Override
+        public Accessible getAccessibleAt(Point p) {
+            Point cell = getCellAt(p);
+            return cell == null ? null : getAccessibleCell(cell.x, cell.y);
+        }
+
+        @Override
+        public AccessibleSelection getAccessibleSelection() {
+            return this;
+        }
+
+        /*
+         * --- AccessibleSelection ---
+         */
+
+        @Override
+        public int getAccessibleSelectionCount() {
+            return selectionModel.getSelectedIndices().length;
+        }
+
+        @Override
+        public Accessible getAccessibleSelection(int i) {
+            int[] indices = selectionModel.getSelectedIndices();
+            return i < 0 || i >= indices.length ? null : getCell(indices[i]);
+        }
+
+        @Override
+        public boolean isAccessibleChildSelected(int i) {
+            return selectionModel.isSelected(i);
+        }
+
+        @Override
+        public void addAccessibleSelection(int i) {
+            if (i >= 0 && i < getAccessibleChildrenCount()) {
+                selectionModel.addSelection(i);
+            }
+        }
+
+        @Override
+        public void removeAccessibleSelection(int i) {
+            selectionModel.removeSelection(i);
+        }
+
+        @Override
+        public void clearAccessibleSelection() {
+            selectionModel.clearSelection();
+        }
+
+        @Override
+        public void selectAllAccessibleSelection() {
+            if (selectionModel.getSelectionMode() == BracketSelectionModel.MULTIPLE_SELECTION) {
+                int[] indices = new int[getAccessibleChildrenCount()];
+                for (int i = 0; i < indices.length; i++) {
+                    indices[i] = i;
+                }
+                selectionModel.setSelection(indices);
+            }
+        }
+
+        /**
+         * The accessible child of a single cell. It is a lightweight object
+         * that only stores the position of the cell and asks the view for
+         * everything else.
+         */
+        protected class AccessibleBracketCell extends AccessibleContext
+                implements Accessible, AccessibleComponent {
+
+            private final int index;
+            private final int column;
+            private final int row;
+
+            /**
+             * Creates a new accessible child for the given cell.
+             *
+             * @param index the flat cell index
+             * @param column the column index
+             * @param row the row index
+             */
+            protected AccessibleBracketCell(int index, int column, int row) {
+                this.index  = index;
+                this.column = column;
+                this.row    = row;
+                setAccessibleParent(JBracketView.this);
+            }
+
+            @Override
+            public AccessibleContext getAccessibleContext() {
+                return this;
+            }
+
+            // the accessible name of the renderer component; the renderer is
+            // shared with painting, which may happen on other threads
+            private String getRendererName() {
+                BracketCellRenderer<? super T> renderer = cellRenderer;
+                if (renderer == null || dataModel == null
+                        || row >= dataModel.getRowCount(column)) {
+                    return null;
+                }
+                T       value    = dataModel.getValueAt(column, row);
+                boolean selected = selectionModel.isSelected(index);
+                synchronized (RENDERER_LOCK) {
+                    Component component = renderer.getBracketCellRendererComponent(
+                            JBracketView.this, value, column, row, selected);
+                    return component instanceof Accessible
+                            ? component.getAccessibleContext().getAccessibleName()
+                            : null;
+                }
+            }
+
+            @Override
+            public String getAccessibleName() {
+                if (accessibleName != null) {
+                    return accessibleName;
+                }
+                String name = getRendererName();
+                if (name != null) {
+                    return name;
+                }
+                Object value = dataModel == null || row >= dataModel.getRowCount(column)
+                        ? null
+                        : dataModel.getValueAt(column, row);
+                return value == null ? null : value.toString();
+            }
+
+            @Override
+            public AccessibleRole getAccessibleRole() {
+                return AccessibleRole.LIST_ITEM;
+            }
 
+            @Override
+            public AccessibleStateSet getAccessibleStateSet() {
+                AccessibleStateSet states = new AccessibleStateSet();
+                states.add(AccessibleState.SELECTABLE);
+                states.add(AccessibleState.TRANSIENT);
+                if (selectionModel.isSelected(index)) {
+                    states.add(AccessibleState.SELECTED);
+                }
+                if (isShowing()) {
+                    states.add(AccessibleState.SHOWING);
+                }
+                if (isVisible()) {
+                    states.add(AccessibleState.VISIBLE);
+                }
+                if (JBracketView.this.isEnabled()) {
+                    states.add(AccessibleState.ENABLED);
+                }
+                return states;
+            }
+
+            @Override
+            public int getAccessibleIndexInParent() {
+                return index;
+            }
+
+            @Override
+            public int getAccessibleChildrenCount() {
+                return 0;
+            }
+
+            @Override
+            public Accessible getAccessibleChild(int i) {
+                return null;
+            }
+
+            @Override
+            public Locale getLocale() {
+                return JBracketView.this.getLocale();
+            }
+
+            @Override
+            public AccessibleComponent getAccessibleComponent() {
+                return this;
+            }
+
+            /*
+             * --- AccessibleComponent ---
+             */
+
+            @Override
+            public Color getBackground() {
+                return JBracketView.this.getBackground();
+            }
+
+            @Override
+            public void setBackground(Color c) {}
+
+            @Override
+            public Color getForeground() {
+                return JBracketView.this.getForeground();
+            }
+
+            @Override
+            public void setForeground(Color c) {}
+
+            @Override
+            public Cursor getCursor() {
+                return JBracketView.this.getCursor();
+            }
+
+            @Override
+            public void setCursor(Cursor cursor) {}
+
+            @Override
+            public Font getFont() {
+                return JBracketView.this.getFont();
+            }
+
+            @Override
+            public void setFont(Font f) {}
+
+            @Override
+            public FontMetrics getFontMetrics(Font f) {
+                return JBracketView.this.getFontMetrics(f);
+            }
+
+            @Override
+            public boolean isEnabled() {
+                return JBracketView.this.isEnabled();
+            }
+
+            @Override
+            public void setEnabled(boolean b) {}
+
+            @Override
+            public boolean isVisible() {
+                Rectangle bounds = getBounds();
+                return bounds != null && JBracketView.this.isVisible()
+                        && getVisibleRect().intersects(bounds);
+            }
+
+            @Override
+            public void setVisible(boolean b) {}
+
+            @Override
+            public boolean isShowing() {
+                return JBracketView.this.isShowing() && isVisible();
+            }
+
+            @Override
+            public boolean contains(Point p) {
+                Rectangle bounds = getBounds();
+                return bounds != null && bounds.contains(p);
+            }
+
+            @Override
+            public Point getLocationOnScreen() {
+                Point location = getLocation();
+                if (location == null || !JBracketView.this.isShowing()) {
+                    return null;
+                }
+                Point screen = JBracketView.this.getLocationOnScreen();
+                location.translate(screen.x, screen.y);
+                return location;
+            }
+
+            @Override
+            public Point getLocation() {
+                Rectangle bounds = getBounds();
+                return bounds == null ? null : bounds.getLocation();
+            }
+
+            @Override
+            public void setLocation(Point p) {}
+
+            @Override
+            public Rectangle getBounds() {
+                return getCellBounds(column, row);
+            }
+
+            @Override
+            public void setBounds(Rectangle r) {}
+
+            @Override
+            public Dimension getSize() {
+                Rectangle bounds = getBounds();
+                return bounds == null ? null : bounds.getSize();
+            }
+
+            @Override
+            public void setSize(Dimension d) {}
+
+            @Override
+            public Accessible getAccessibleAt(Point p) {
+                return null;
+            }
+
+            @Override
+            public boolean isFocusTraversable() {
+                return false;
+            }
+
+            @Override
+            public void requestFocus() {
+                selectCell(column, row);
+                Rectangle bounds = getBounds();
+                if (bounds != null) {
+                    scrollRectToVisible(bounds);
+                }
+            }
+
+            @Override
+            public void addFocusListener(FocusListener l) {}
+
+            @Override
+            public void removeFocusListener(FocusListener l) {}
+        }
+    }
+}
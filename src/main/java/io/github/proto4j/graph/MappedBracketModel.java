@@ -0,0 +1,257 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A read-only {@code BracketModel} that is backed by a memory-mapped file in
+ * the format of the {@code BracketModelCodec}. It is meant to browse large
+ * archived tournaments, where only a small part of all cells will ever be
+ * displayed.
+ * <p>
+ * Opening a file only reads the header and the column table. Cell values are
+ * decoded on demand when {@link #getValueAt(int, int)} is called, and the
+ * most recently used values are kept in a small cache. To locate a cell, a
+ * sparse index with the position of every {@value #INDEX_STRIDE}th cell is
+ * built per column the first time the column is accessed.
+ *
+ * @param <E> the data type stored in each cell
+ * @see BracketModelCodec
+ */
+public class MappedBracketModel<E>
+        implements BracketModel<E> {
+
+    /**
+     * The default amount of decoded values that will be cached.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 512;
+
+    /**
+     * The distance between two indexed cells of a column.
+     */
+    static final int INDEX_STRIDE = 16;
+
+    private static final Object NULL = new Object();
+
+    private final BracketModelCodec<E> codec;
+    private final ByteBuffer           buffer;
+    private final int[]                rowCounts;
+    private final int[]                columnStarts;
+
+    // guarded by this
+    private final int[][]           columnIndex;
+    private final Map<Long, Object> cache;
+
+    /**
+     * Maps the given file and creates a new {@code MappedBracketModel} with
+     * the default cache size.
+     *
+     * @param file the file to map
+     * @param elementCodec the codec for cell values
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if the file doesn't contain an
+     *                                  encoded model
+     */
+    public MappedBracketModel(Path file, BracketElementCodec<E> elementCodec)
+            throws IOException {
+        this(file, elementCodec, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Maps the given file and creates a new {@code MappedBracketModel}.
+     *
+     * @param file the file to map
+     * @param elementCodec the codec for cell values
+     * @param cacheSize the maximum amount of decoded values to cache
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if the file doesn't contain an
+     *                                  encoded model
+     */
+    public MappedBracketModel(Path file, BracketElementCodec<E> elementCodec, int cacheSize)
+            throws IOException {
+        this(map(file), elementCodec, cacheSize);
+    }
+
+    /**
+     * Creates a new {@code MappedBracketModel} on the content of the given
+     * buffer, starting at its current position and ending at its limit.
+     *
+     * @param buffer the buffer containing an encoded model
+     * @param elementCodec the codec for cell values
+     * @param cacheSize the maximum amount of decoded values to cache
+     * @throws IllegalArgumentException if the buffer doesn't contain an
+     *                                  encoded model
+     */
+    public MappedBracketModel(ByteBuffer buffer, BracketElementCodec<E> elementCodec,
+                              int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("CacheSize has to be >= 0");
+        }
+        this.codec  = new BracketModelCodec<>(elementCodec);
+        this.buffer = buffer.slice();
+
+        ByteBuffer header = this.buffer.duplicate();
+        rowCounts = BracketModelCodec.readHeader(header);
+
+        // the table of column starts is followed by its own position
+        int  headerEnd  = header.position();
+        long tableEnd   = this.buffer.limit() - (long) Integer.BYTES * (rowCounts.length + 1);
+        int  tableStart = this.buffer.limit() < Integer.BYTES ? -1
+                        : this.buffer.getInt(this.buffer.limit() - Integer.BYTES);
+        if (tableStart < headerEnd || tableStart > tableEnd) {
+            throw new IllegalArgumentException("Malformed column table: " + tableStart);
+        }
+
+        // every non-empty column takes at least one byte per row
+        columnStarts = new int[rowCounts.length];
+        int next = headerEnd;
+        for (int i = 0; i < columnStarts.length; i++) {
+            int columnStart = this.buffer.getInt(tableStart + i * Integer.BYTES);
+            if (columnStart < next || (long) columnStart + rowCounts[i] > tableStart) {
+                throw new IllegalArgumentException("Malformed column start: " + columnStart);
+            }
+            columnStarts[i] = columnStart;
+            next = columnStart + rowCounts[i];
+        }
+
+        columnIndex = new int[rowCounts.length][];
+        cache = new LinkedHashMap<Long, Object>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Object> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the column count for this model.
+     *
+     * @return the element count
+     */
+    @Override
+    public int getColumnCount() {
+        return rowCounts.length;
+    }
+
+    /**
+     * Returns the number of rows in the specified column.
+     *
+     * @param columnIndex the column index
+     * @return the row count for the specified column
+     */
+    @Override
+    public int getRowCount(int columnIndex) {
+        return columnIndex < 0 || columnIndex >= rowCounts.length ? 0 : rowCounts[columnIndex];
+    }
+
+    /**
+     * Returns the value for the cell at <code>columnIndex</code> and
+     * <code>rowIndex</code>. The value is decoded from the mapped file if it
+     * is not cached.
+     *
+     * @param columnIndex the column whose value is to be queried
+     * @param rowIndex the row whose value is to be queried
+     * @return the value Object at the specified cell
+     */
+    @Override
+    public synchronized E getValueAt(int columnIndex, int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= getRowCount(columnIndex)) {
+            return null;
+        }
+
+        Long   key   = ((long) columnIndex << 32) | rowIndex;
+        Object value = cache.get(key);
+        if (value == null) {
+            value = decode(columnIndex, rowIndex);
+            cache.put(key, value == null ? NULL : value);
+        }
+
+        @SuppressWarnings("unchecked")
+        E result = value == NULL ? null : (E) value;
+        return result;
+    }
+
+    /**
+     * Archived models are read-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setValueAt(E value, int columnIndex, int rowIndex) {
+        throw new UnsupportedOperationException("MappedBracketModel is read-only");
+    }
+
+    private E decode(int column, int row) {
+        int[]      index  = getColumnIndex(column);
+        ByteBuffer cursor = buffer.duplicate();
+
+        cursor.position(index[row / INDEX_STRIDE]);
+        for (int i = row - (row % INDEX_STRIDE); i < row; i++) {
+            skipCell(cursor);
+        }
+        return codec.decodeCell(cursor);
+    }
+
+    private int[] getColumnIndex(int column) {
+        int[] index = columnIndex[column];
+        if (index == null) {
+            int rows = rowCounts[column];
+            index = new int[(rows + INDEX_STRIDE - 1) / INDEX_STRIDE];
+
+            ByteBuffer cursor = buffer.duplicate();
+            cursor.position(columnStarts[column]);
+            for (int i = 0; i < rows; i++) {
+                if (i % INDEX_STRIDE == 0) {
+                    index[i / INDEX_STRIDE] = cursor.position();
+                }
+                skipCell(cursor);
+            }
+            columnIndex[column] = index;
+        }
+        return index;
+    }
+
+    private static void skipCell(ByteBuffer cursor) {
+        int length = BracketModelCodec.getVarInt(cursor) - 1;
+        if (length > 0) {
+            cursor.position(cursor.position() + length);
+        }
+    }
+
+    private static MappedByteBuffer map(Path file) throws IOException {
+        // the mapping stays valid after the channel has been closed
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.Rectangle2D;
+
+/**
+ * A {@code BracketCellPainter} that paints a match between two sides: the
+ * name of each side on the left of its half of the cell and its score on
+ * the right.
+ * <pre>
+ * +--------------------+
+ * | Home            2  |
+ * +--------------------+
+ * | Guest           1  |
+ * +--------------------+
+ * </pre>
+ * The texts are taken from the values through {@link SideText} functions:
+ * <pre>
+ * {@code
+ *  view.setCellPainter(new MatchCellPainter<Game>(
+ *          (game, side) -> side == MatchCellPainter.HOME ? game.getHome() : game.getGuest()));
+ * }
+ * </pre>
+ * Team names repeat in every column they reach, so the shaped texts are
+ * taken from the {@linkplain JBracketView#getTextCache() text cache} of the
+ * view. Painting a cell then only fills the background, draws the border
+ * and draws up to four cached glyph vectors. Names that don't fit are
+ * clipped.
+ * <p>
+ * The cell is filled with the background of the view, or the selection
+ * background of lists if it is selected. The border uses the line color of
+ * the view. Instances are thread-safe.
+ *
+ * @param <E> the type of the matches
+ * @see BracketCellPainter
+ */
+public class MatchCellPainter<E> implements BracketCellPainter<E> {
+
+    /**
+     * The side that is painted in the upper half of the cell.
+     */
+    public static final int HOME = 0;
+
+    /**
+     * The side that is painted in the lower half of the cell.
+     */
+    public static final int GUEST = 1;
+
+    // the space between the border and the texts
+    private static final int PADDING = 4;
+
+    /**
+     * Provides a text of one side of a match.
+     *
+     * @param <E> the type of the matches
+     */
+    @FunctionalInterface
+    public interface SideText<E> {
+
+        /**
+         * Returns the text of the given side.
+         *
+         * @param match the match, which is never {@code null}
+         * @param side either {@link #HOME} or {@link #GUEST}
+         * @return the text or {@code null} if nothing should be painted
+         */
+        String getText(E match, int side);
+    }
+
+    private final SideText<? super E> names;
+    private final SideText<? super E> scores;
+
+    /**
+     * Creates a new painter that only paints the names of both sides.
+     *
+     * @param names provides the names of both sides
+     * @throws IllegalArgumentException if names is {@code null}
+     */
+    public MatchCellPainter(SideText<? super E> names) {
+        this(names, null);
+    }
+
+    /**
+     * Creates a new painter that paints the names and scores of both sides.
+     *
+     * @param names provides the names of both sides
+     * @param scores provides the scores of both sides or {@code null} if no
+     *         scores should be painted
+     * @throws IllegalArgumentException if names is {@code null}
+     */
+    public MatchCellPainter(SideText<? super E> names, SideText<? super E> scores) {
+        if (names == null) {
+            throw new IllegalArgumentException("Names must be not null");
+        }
+        this.names  = names;
+        this.scores = scores;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void paintCell(Graphics2D g, JBracketView<? extends E> view, E value,
+                          int columnIndex, int rowIndex, boolean isSelected, Rectangle bounds) {
+        Color background = isSelected ? UIManager.getColor("List.selectionBackground") : null;
+        Color foreground = isSelected ? UIManager.getColor("List.selectionForeground") : null;
+        Color border     = view.getLineColor();
+        if (background == null) {
+            background = view.getBackground();
+        }
+        if (foreground == null) {
+            foreground = view.getForeground();
+        }
+        if (border == null) {
+            border = foreground;
+        }
+
+        int x = bounds.x, y = bounds.y, width = bounds.width, height = bounds.height;
+        int half = height / 2;
+
+        if (background != null) {
+            g.setColor(background);
+            g.fillRect(x, y, width, height);
+        }
+        g.setColor(border);
+        g.drawRect(x, y, width - 1, height - 1);
+        g.drawLine(x, y + half, x + width - 1, y + half);
+
+        if (value == null) {
+            return;
+        }
+        BracketTextCache  texts = view.getTextCache();
+        Font              font  = view.getFont() != null ? view.getFont() : g.getFont();
+        FontRenderContext frc   = g.getFontRenderContext();
+        g.setColor(foreground);
+        for (int side = HOME; side <= GUEST; side++) {
+            int top    = y + side * half;
+            int bottom = side == HOME ? y + half : y + height;
+            int right  = x + width - PADDING;
+
+            String score = scores == null ? null : scores.getText(value, side);
+            if (score != null && !score.isEmpty()) {
+                BracketTextCache.Text text = texts.get(score, font, frc);
+                Rectangle2D           r    = text.bounds;
+                right -= (int) Math.ceil(r.getWidth());
+                g.drawGlyphVector(text.glyphs, right, getBaseline(r, top, bottom));
+                right -= PADDING;
+            }
+
+            String name = names.getText(value, side);
+            if (name != null && !name.isEmpty()) {
+                BracketTextCache.Text text = texts.get(name, font, frc);
+                Rectangle2D           r    = text.bounds;
+                int left = x + PADDING;
+                if (left + r.getWidth() > right) {
+                    Shape clip = g.getClip();
+                    g.clipRect(left, top, Math.max(0, right - left), bottom - top);
+                    g.drawGlyphVector(text.glyphs, left, getBaseline(r, top, bottom));
+                    g.setClip(clip);
+                } else {
+                    g.drawGlyphVector(text.glyphs, left, getBaseline(r, top, bottom));
+                }
+            }
+        }
+    }
+
+    // centers the logical bounds of a text between top and bottom
+    private static float getBaseline(Rectangle2D logicalBounds, int top, int bottom) {
+        return (float) (top + ((bottom - top) - logicalBounds.getHeight()) / 2 - logicalBounds.getY());
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+/**
+ * A {@code BracketLocator} that lays out an elimination bracket from both
+ * sides toward a centred final. The upper half of each column flows from
+ * left to right and the lower half from right to left, which halves the
+ * height of the view:
+ * <pre>
+ * +---+                         +---+
+ * | 0 +--+                   +--+ 2 |
+ * +---+  |  +---+     +---+  |  +---+
+ *        +--+ 0 +-----+ 1 +--+
+ *        |  +---+  |  +---+  |
+ * +---+  |       +-+-+       |  +---+
+ * | 1 +--+       | 0 |       +--+ 3 |
+ * +---+          +---+          +---+
+ * </pre>
+ * (The final is drawn below its predecessors for clarity; it is placed at
+ * their height.) A cell belongs to the left half if its successor in the
+ * second to last column is the first row of that column. The last column
+ * is placed in the centre, between the two cells of the second to last
+ * column.
+ * <p>
+ * Like the elimination layout of {@code BracketConstraints}, the positions
+ * of this locator are computed column by column in linear time when a
+ * {@code BracketLayout} is created. The connector painters of
+ * {@code BracketUtil} detect mirrored cells by the position of their
+ * successor.
+ *
+ * @see BracketLayout#compute(BracketModel, BracketLocator, BracketConstraints)
+ * @see BracketUtil
+ */
+public class MirroredBracketLocator implements BracketLocator {
+
+    private final BracketModel<?> model;
+
+    /**
+     * Creates a new locator for the given elimination model.
+     *
+     * @param model the model to lay out
+     * @throws IllegalArgumentException if the given model is {@code null}
+     */
+    public MirroredBracketLocator(BracketModel<?> model) {
+        if (model == null) {
+            throw new IllegalArgumentException("Model must be not null");
+        }
+        this.model = model;
+    }
+
+    /**
+     * Returns the model this locator computes the positions for.
+     *
+     * @return the elimination model
+     */
+    public BracketModel<?> getModel() {
+        return model;
+    }
+
+    /**
+     * Returns the X-position of the left half of the given column.
+     *
+     * @param column the column index
+     * @param constraints the current bracket constraints
+     * @return the X-position of the left half
+     */
+    @Override
+    public int getX(int column, BracketConstraints constraints) {
+        return constraints.ipadX + ((constraints.bracketWidth + constraints.spaceX) * column);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getX(int column, int row, BracketConstraints constraints) {
+        return getX(column, row, model.getColumnCount(), constraints);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getY(int column, int row, BracketConstraints constraints) {
+        if (column == 0) {
+            int rows = getSideRows(model.getColumnCount());
+            return constraints.ipadY + ((constraints.bracketHeight + constraints.spaceY) * (row % rows));
+        }
+        int yMin = getY(column - 1, row * 2, constraints);
+        int yMax = getY(column - 1, row * 2 + 1, constraints);
+        return (yMax + yMin) / 2;
+    }
+
+    /**
+     * Returns whether the given cell is placed in the right half, where
+     * cells flow from right to left.
+     *
+     * @param column the column index
+     * @param row the row index
+     * @return {@code true} if the cell is mirrored
+     */
+    public boolean isMirrored(int column, int row) {
+        return isMirrored(column, row, model.getColumnCount());
+    }
+
+    int getX(int column, int row, int columnCount, BracketConstraints constraints) {
+        int slot = isMirrored(column, row, columnCount) ? 2 * (columnCount - 1) - column : column;
+        return constraints.ipadX + ((constraints.bracketWidth + constraints.spaceX) * slot);
+    }
+
+    /**
+     * Returns the amount of rows in the first column that belong to one
+     * half of a bracket with the given amount of columns.
+     */
+    static int getSideRows(int columnCount) {
+        return columnCount < 2 || columnCount - 2 >= 31 ? Integer.MAX_VALUE : 1 << (columnCount - 2);
+    }
+
+    private static boolean isMirrored(int column, int row, int columnCount) {
+        int shift = columnCount - 2 - column;
+        return shift >= 0 && shift < 31 && (row >> shift) != 0;
+    }
+}
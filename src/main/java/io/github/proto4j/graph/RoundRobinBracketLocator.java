@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+/**
+ * A {@code BracketLocator} that places the cells of a
+ * {@code RoundRobinBracketModel} as a crosstable ordered by the current
+ * standings. The cell of entrant {@code r} against entrant {@code c} is
+ * placed at the column of {@code c}'s rank and the row of {@code r}'s rank:
+ * <pre>
+ *     x := ipadX + rank(c) * (bracketWidth + spaceX)
+ *     y := ipadY + rank(r) * (bracketHeight + spaceY)
+ * </pre>
+ * The ranks are maintained by the model, so every position is computed in
+ * constant time. Whenever the standings change, the
+ * {@linkplain #getLayoutStamp() layout stamp} of this locator changes and
+ * views compute a new layout.
+ *
+ * @see RoundRobinBracketModel
+ */
+public class RoundRobinBracketLocator implements BracketLocator {
+
+    private final RoundRobinBracketModel<?> model;
+
+    /**
+     * Creates a new locator for the given model.
+     *
+     * @param model the model to lay out
+     * @throws IllegalArgumentException if the given model is {@code null}
+     */
+    public RoundRobinBracketLocator(RoundRobinBracketModel<?> model) {
+        if (model == null) {
+            throw new IllegalArgumentException("Model must be not null");
+        }
+        this.model = model;
+    }
+
+    /**
+     * Returns the model this locator computes the positions for.
+     *
+     * @return the round-robin model
+     */
+    public RoundRobinBracketModel<?> getModel() {
+        return model;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getX(int column, BracketConstraints constraints) {
+        return constraints.ipadX + (model.getRank(column) * (constraints.bracketWidth + constraints.spaceX));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getY(int column, int row, BracketConstraints constraints) {
+        return constraints.ipadY + (model.getRank(row) * (constraints.bracketHeight + constraints.spaceY));
+    }
+
+    /**
+     * Returns a stamp that changes whenever the standings of the model
+     * change.
+     *
+     * @return the current layout stamp
+     */
+    @Override
+    public long getLayoutStamp() {
+        return model.getLayoutStamp();
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@code BracketModel} for the crosstable of a round-robin stage. For
+ * {@code n} entrants, the model has {@code n} columns with {@code n} rows
+ * each, and the cell at column {@code c} and row {@code r} stores the result
+ * of entrant {@code r} against entrant {@code c}. Cells on the diagonal stay
+ * empty.
+ * <p>
+ * A points function computes the points entrant {@code r} has earned from
+ * each result. The model keeps the total points and the rank of every
+ * entrant up to date: ranks are ordered by descending points, and entrants
+ * with the same points by ascending index.
+ * <pre>
+ * {@code
+ *  RoundRobinBracketModel<Game> model = new RoundRobinBracketModel<>(8, Game::getPoints);
+ *  JBracketView<Game> view = new JBracketView<>(model);
+ *  view.setLocator(new RoundRobinBracketLocator(model));
+ * }
+ * </pre>
+ * Cells keep their column and row when the standings change, so that
+ * selections and other per-cell state stay valid. If a result changes the
+ * points of an entrant, the entrant is moved to its new rank by swapping
+ * it with its neighbours, so only the ranks in between are updated.
+ *
+ * @param <E> the data type stored in each cell
+ * @see RoundRobinBracketLocator
+ */
+public class RoundRobinBracketModel<E>
+        extends AbstractBracketModel<E> {
+
+    private final ToIntFunction<? super E> pointsFunction;
+    private final int                      entrantCount;
+
+    // all fields are guarded by this
+    private final Object[] results;
+    private final int[]    points;
+    private final int[]    ranks;
+    private final int[]    entrants;
+    private       long     layoutStamp;
+
+    /**
+     * Creates a new {@code RoundRobinBracketModel} without any results.
+     *
+     * @param entrantCount the amount of entrants
+     * @param pointsFunction computes the points of the row's entrant from a
+     *         result; it is not called for {@code null} results
+     * @throws IllegalArgumentException if the entrant count is negative or
+     *         the function is {@code null}
+     */
+    public RoundRobinBracketModel(int entrantCount, ToIntFunction<? super E> pointsFunction) {
+        if (entrantCount < 0) {
+            throw new IllegalArgumentException("Invalid entrant count: " + entrantCount);
+        }
+        if (pointsFunction == null) {
+            throw new IllegalArgumentException("Points function must be not null");
+        }
+        this.entrantCount   = entrantCount;
+        this.pointsFunction = pointsFunction;
+        this.results        = new Object[entrantCount * entrantCount];
+        this.points         = new int[entrantCount];
+        this.ranks          = new int[entrantCount];
+        this.entrants       = new int[entrantCount];
+        for (int i = 0; i < entrantCount; i++) {
+            ranks[i]    = i;
+            entrants[i] = i;
+        }
+    }
+
+    /**
+     * Returns the amount of entrants.
+     *
+     * @return the entrant count
+     */
+    public int getEntrantCount() {
+        return entrantCount;
+    }
+
+    /**
+     * Returns the total points of the given entrant.
+     *
+     * @param entrant the index of the entrant
+     * @return the sum of the points of all results in the entrant's row
+     * @throws IndexOutOfBoundsException if there is no such entrant
+     */
+    public synchronized int getPoints(int entrant) {
+        return points[checkEntrant(entrant)];
+    }
+
+    /**
+     * Returns the current rank of the given entrant. The leading entrant
+     * has rank {@code 0}.
+     *
+     * @param entrant the index of the entrant
+     * @return the rank of the entrant
+     * @throws IndexOutOfBoundsException if there is no such entrant
+     */
+    public synchronized int getRank(int entrant) {
+        return ranks[checkEntrant(entrant)];
+    }
+
+    /**
+     * Returns the entrant at the given rank.
+     *
+     * @param rank the rank
+     * @return the index of the entrant
+     * @throws IndexOutOfBoundsException if the rank is invalid
+     */
+    public synchronized int getEntrantAt(int rank) {
+        return entrants[checkEntrant(rank)];
+    }
+
+    /**
+     * Returns the column count for this model.
+     *
+     * @return the amount of entrants
+     */
+    @Override
+    public int getColumnCount() {
+        return entrantCount;
+    }
+
+    /**
+     * Returns the number of rows in the specified column.
+     *
+     * @param columnIndex the column index
+     * @return the amount of entrants, or {@code 0} for invalid columns
+     */
+    @Override
+    public int getRowCount(int columnIndex) {
+        return columnIndex < 0 || columnIndex >= entrantCount ? 0 : entrantCount;
+    }
+
+    /**
+     * Returns the result of the row's entrant against the column's entrant.
+     *
+     * @param columnIndex the column whose value is to be queried
+     * @param rowIndex the row whose value is to be queried
+     * @return the value Object at the specified cell or {@code null} if
+     *         there is no such cell
+     */
+    @Override
+    public synchronized E getValueAt(int columnIndex, int rowIndex) {
+        if (columnIndex < 0 || columnIndex >= entrantCount
+                || rowIndex < 0 || rowIndex >= entrantCount) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        E value = (E) results[index(columnIndex, rowIndex)];
+        return value;
+    }
+
+    /**
+     * Sets the result of the row's entrant against the column's entrant
+     * and updates the standings.
+     *
+     * @param value the new value
+     * @param columnIndex the column whose value is to be changed
+     * @param rowIndex the row whose value is to be changed
+     * @throws IndexOutOfBoundsException if there is no such cell
+     * @throws IllegalArgumentException if the cell is on the diagonal
+     */
+    @Override
+    public void setValueAt(E value, int columnIndex, int rowIndex) {
+        if (columnIndex == rowIndex) {
+            throw new IllegalArgumentException("An entrant can't play against itself");
+        }
+        int earned = value == null ? 0 : pointsFunction.applyAsInt(value);
+        synchronized (this) {
+            int index = index(columnIndex, rowIndex);
+            @SuppressWarnings("unchecked")
+            E   old   = (E) results[index];
+
+            results[index] = value;
+            int delta = earned - (old == null ? 0 : pointsFunction.applyAsInt(old));
+            if (delta != 0) {
+                points[rowIndex] += delta;
+                if (rerank(rowIndex)) {
+                    layoutStamp++;
+                }
+            }
+        }
+        fireCellUpdated(columnIndex, rowIndex);
+    }
+
+    /**
+     * Returns the stamp of the {@code RoundRobinBracketLocator}.
+     */
+    synchronized long getLayoutStamp() {
+        return layoutStamp;
+    }
+
+    // moves the entrant to its new rank; returns whether it has moved
+    private boolean rerank(int entrant) {
+        int start = ranks[entrant];
+        int rank  = start;
+        while (rank > 0 && isAhead(entrant, entrants[rank - 1])) {
+            swap(rank, rank - 1);
+            rank--;
+        }
+        while (rank < entrantCount - 1 && isAhead(entrants[rank + 1], entrant)) {
+            swap(rank, rank + 1);
+            rank++;
+        }
+        return rank != start;
+    }
+
+    private boolean isAhead(int entrant, int other) {
+        return points[entrant] > points[other]
+                || (points[entrant] == points[other] && entrant < other);
+    }
+
+    private void swap(int rank, int otherRank) {
+        int entrant = entrants[rank];
+        int other   = entrants[otherRank];
+        entrants[rank]      = other;
+        entrants[otherRank] = entrant;
+        ranks[other]        = rank;
+        ranks[entrant]      = otherRank;
+    }
+
+    private int index(int column, int row) {
+        return checkEntrant(row) * entrantCount + checkEntrant(column);
+    }
+
+    private int checkEntrant(int index) {
+        if (index < 0 || index >= entrantCount) {
+            throw new IndexOutOfBoundsException("Invalid entrant: " + index);
+        }
+        return index;
+    }
+}
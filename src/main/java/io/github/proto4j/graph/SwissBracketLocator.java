@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+/**
+ * A {@code BracketLocator} for the rounds of a {@code SwissBracketModel}.
+ * Each round is placed in its own column and the matches of a round are
+ * placed below each other, whereby an additional gap separates the score
+ * buckets:
+ * <pre>
+ *     y := ipadY + row * (bracketHeight + spaceY) + bucket * bucketGap
+ * </pre>
+ * The bucket of each row is maintained by the model, so every position is
+ * computed in constant time. Whenever the model regroups a match, the
+ * {@linkplain #getLayoutStamp() layout stamp} of this locator changes and
+ * views compute a new layout.
+ *
+ * @see SwissBracketModel
+ */
+public class SwissBracketLocator implements BracketLocator {
+
+    private final SwissBracketModel<?> model;
+    private final int                  bucketGap;
+
+    /**
+     * Creates a new locator that separates the score buckets by an
+     * additional {@code spaceY} of the current constraints.
+     *
+     * @param model the model to lay out
+     * @throws IllegalArgumentException if the given model is {@code null}
+     */
+    public SwissBracketLocator(SwissBracketModel<?> model) {
+        this(model, -1);
+    }
+
+    /**
+     * Creates a new locator that separates the score buckets by the given
+     * gap.
+     *
+     * @param model the model to lay out
+     * @param bucketGap the additional space between two buckets, or a
+     *         negative value to use {@code spaceY} of the current constraints
+     * @throws IllegalArgumentException if the given model is {@code null}
+     */
+    public SwissBracketLocator(SwissBracketModel<?> model, int bucketGap) {
+        if (model == null) {
+            throw new IllegalArgumentException("Model must be not null");
+        }
+        this.model     = model;
+        this.bucketGap = bucketGap;
+    }
+
+    /**
+     * Returns the model this locator computes the positions for.
+     *
+     * @return the Swiss model
+     */
+    public SwissBracketModel<?> getModel() {
+        return model;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getX(int column, BracketConstraints constraints) {
+        return constraints.ipadX + (column * (constraints.bracketWidth + constraints.spaceX));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getY(int column, int row, BracketConstraints constraints) {
+        int gap = bucketGap < 0 ? constraints.spaceY : bucketGap;
+        return constraints.ipadY + (row * (constraints.bracketHeight + constraints.spaceY))
+                + (model.getBucket(column, row) * gap);
+    }
+
+    /**
+     * Returns a stamp that changes whenever a match has been added to the
+     * model or moved into another bucket.
+     *
+     * @return the current layout stamp
+     */
+    @Override
+    public long getLayoutStamp() {
+        return model.getLayoutStamp();
+    }
+}
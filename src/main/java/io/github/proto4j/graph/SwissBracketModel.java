@@ -0,0 +1,355 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Proto4j
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.proto4j.graph; //@date 18.10.2026
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@code BracketModel} for the rounds of a Swiss-system stage. Each column
+ * is a round and each row a match of that round. The matches of a round are
+ * grouped by the score of their entrants (e.g. the number of wins before
+ * the round), which is computed from each value by a score function:
+ * <pre>
+ * {@code
+ *  SwissBracketModel<Game> model = new SwissBracketModel<>(Game::getWins);
+ *  int round = model.addRound();
+ *  model.addMatch(round, game);
+ *
+ *  JBracketView<Game> view = new JBracketView<>(model);
+ *  view.setLocator(new SwissBracketLocator(model));
+ * }
+ * </pre>
+ * The rows of a round are ordered by descending score, so that each score
+ * bucket occupies a contiguous range of rows. Within a bucket, matches keep
+ * the order in which they have been added. The score function is never
+ * called for {@code null} values; empty matches have the lowest possible
+ * score and are placed in the last bucket.
+ * <p>
+ * If the score of a single match changes, because a new value has been set
+ * or {@link #regroup(int, int)} has been called, only the rows between the
+ * old and the new position of that match are moved. The bucket of each row
+ * is stored with the row, so that locators can look it up in constant time.
+ *
+ * @param <E> the data type stored in each cell
+ * @see SwissBracketLocator
+ */
+public class SwissBracketModel<E>
+        extends AbstractBracketModel<E> {
+
+    private final ToIntFunction<? super E> scoreFunction;
+
+    // guarded by this
+    private final List<Round> rounds = new ArrayList<>();
+
+    // changes whenever the bucket of any row may have changed; guarded by this
+    private long layoutStamp;
+
+    /**
+     * Creates a new {@code SwissBracketModel} without any rounds.
+     *
+     * @param scoreFunction computes the score bucket of each match
+     * @throws IllegalArgumentException if the given function is {@code null}
+     */
+    public SwissBracketModel(ToIntFunction<? super E> scoreFunction) {
+        if (scoreFunction == null) {
+            throw new IllegalArgumentException("Score function must be not null");
+        }
+        this.scoreFunction = scoreFunction;
+    }
+
+    /**
+     * Appends a new empty round to this model.
+     *
+     * @return the column index of the new round
+     */
+    public int addRound() {
+        int column;
+        synchronized (this) {
+            column = rounds.size();
+            rounds.add(new Round());
+        }
+        fireColumnInserted(column);
+        return column;
+    }
+
+    /**
+     * Adds a match to the given round. The match is inserted behind all
+     * matches with the same or a higher score.
+     *
+     * @param round the column index of the round
+     * @param value the match
+     * @return the row index of the inserted match
+     * @throws IndexOutOfBoundsException if there is no such round
+     */
+    public int addMatch(int round, E value) {
+        int score = getScore(value);
+        int row;
+        synchronized (this) {
+            row = getRound(round).insert(value, score);
+            layoutStamp++;
+        }
+        fireRowsInserted(round, row, row);
+        return row;
+    }
+
+    /**
+     * Computes the score of the given match again and moves it into its new
+     * bucket, if necessary. This method should be called if the values of
+     * this model are mutable.
+     *
+     * @param round the column index of the round
+     * @param row the row index of the match
+     * @return the new row index of the match
+     * @throws IndexOutOfBoundsException if there is no such match
+     */
+    public int regroup(int round, int row) {
+        return update(round, row, getValueAt(round, row));
+    }
+
+    /**
+     * Returns the score of the given match.
+     *
+     * @param round the column index of the round
+     * @param row the row index of the match
+     * @return the score of the match
+     * @throws IndexOutOfBoundsException if there is no such match
+     */
+    public synchronized int getScore(int round, int row) {
+        Round r = getRound(round);
+        return r.scores[r.checkRow(row)];
+    }
+
+    /**
+     * Returns the bucket of the given match, which is the amount of higher
+     * scores in the same round. The first bucket is {@code 0}.
+     *
+     * @param round the column index of the round
+     * @param row the row index of the match
+     * @return the bucket of the match
+     * @throws IndexOutOfBoundsException if there is no such match
+     */
+    public synchronized int getBucket(int round, int row) {
+        Round r = getRound(round);
+        return r.buckets[r.checkRow(row)];
+    }
+
+    /**
+     * Returns the amount of distinct scores in the given round.
+     *
+     * @param round the column index of the round
+     * @return the bucket count
+     * @throws IndexOutOfBoundsException if there is no such round
+     */
+    public synchronized int getBucketCount(int round) {
+        Round r = getRound(round);
+        return r.size == 0 ? 0 : r.buckets[r.size - 1] + 1;
+    }
+
+    /**
+     * Returns the column count for this model.
+     *
+     * @return the amount of rounds
+     */
+    @Override
+    public synchronized int getColumnCount() {
+        return rounds.size();
+    }
+
+    /**
+     * Returns the number of rows in the specified column.
+     *
+     * @param columnIndex the column index
+     * @return the amount of matches in the given round
+     */
+    @Override
+    public synchronized int getRowCount(int columnIndex) {
+        return columnIndex < 0 || columnIndex >= rounds.size() ? 0 : rounds.get(columnIndex).size;
+    }
+
+    /**
+     * Returns the value for the cell at <code>columnIndex</code> and
+     * <code>rowIndex</code>.
+     *
+     * @param columnIndex the column whose value is to be queried
+     * @param rowIndex the row whose value is to be queried
+     * @return the value Object at the specified cell or {@code null} if
+     *         there is no such cell
+     */
+    @Override
+    public synchronized E getValueAt(int columnIndex, int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= getRowCount(columnIndex)) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        E value = (E) rounds.get(columnIndex).values[rowIndex];
+        return value;
+    }
+
+    /**
+     * Sets the value in the cell at <code>columnIndex</code> and
+     * <code>rowIndex</code> to <code>value</code>. If the score of the new
+     * value differs, the match is moved into its new bucket.
+     *
+     * @param value the new value
+     * @param columnIndex the column whose value is to be changed
+     * @param rowIndex the row whose value is to be changed
+     * @throws IndexOutOfBoundsException if there is no such cell
+     */
+    @Override
+    public void setValueAt(E value, int columnIndex, int rowIndex) {
+        update(columnIndex, rowIndex, value);
+    }
+
+    /**
+     * Returns the stamp of the {@code SwissBracketLocator}.
+     */
+    synchronized long getLayoutStamp() {
+        return layoutStamp;
+    }
+
+    private int update(int round, int row, E value) {
+        int score = getScore(value);
+        int newRow;
+        synchronized (this) {
+            Round r = getRound(round);
+            r.checkRow(row);
+            r.values[row] = value;
+            if (r.scores[row] == score) {
+                newRow = row;
+            } else {
+                newRow = r.move(row, score);
+                layoutStamp++;
+            }
+        }
+
+        if (newRow == row) {
+            fireCellUpdated(round, row);
+        } else {
+            fireRowsUpdated(round, Math.min(row, newRow), Math.max(row, newRow));
+        }
+        return newRow;
+    }
+
+    // empty matches are placed behind all others
+    private int getScore(E value) {
+        return value == null ? Integer.MIN_VALUE : scoreFunction.applyAsInt(value);
+    }
+
+    private Round getRound(int round) {
+        if (round < 0 || round >= rounds.size()) {
+            throw new IndexOutOfBoundsException("Invalid round: " + round);
+        }
+        return rounds.get(round);
+    }
+
+    /**
+     * The matches of a single round, ordered by descending score.
+     */
+    private static final class Round {
+        Object[] values  = new Object[8];
+        int[]    scores  = new int[8];
+        int[]    buckets = new int[8];
+        int      size;
+
+        int checkRow(int row) {
+            if (row < 0 || row >= size) {
+                throw new IndexOutOfBoundsException("Invalid row: " + row);
+            }
+            return row;
+        }
+
+        int insert(Object value, int score) {
+            if (size == values.length) {
+                int capacity = size * 2;
+                values  = Arrays.copyOf(values, capacity);
+                scores  = Arrays.copyOf(scores, capacity);
+                buckets = Arrays.copyOf(buckets, capacity);
+            }
+
+            int row = endOfBucket(0, size, score);
+            System.arraycopy(values, row, values, row + 1, size - row);
+            System.arraycopy(scores, row, scores, row + 1, size - row);
+            System.arraycopy(buckets, row, buckets, row + 1, size - row);
+            size++;
+
+            values[row] = value;
+            scores[row] = score;
+            updateBuckets(row, row);
+            return row;
+        }
+
+        int move(int row, int score) {
+            Object value = values[row];
+            int    to;
+            if (score > scores[row]) {
+                // behind all rows above with the same or a higher score
+                to = endOfBucket(0, row, score);
+                System.arraycopy(values, to, values, to + 1, row - to);
+                System.arraycopy(scores, to, scores, to + 1, row - to);
+            } else {
+                to = endOfBucket(row + 1, size, score) - 1;
+                System.arraycopy(values, row + 1, values, row, to - row);
+                System.arraycopy(scores, row + 1, scores, row, to - row);
+            }
+
+            values[to] = value;
+            scores[to] = score;
+            updateBuckets(Math.min(row, to), Math.max(row, to));
+            return to;
+        }
+
+        // the first row in [from, to) with a lower score
+        private int endOfBucket(int from, int to, int score) {
+            int low  = from;
+            int high = to - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (scores[mid] >= score) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+
+        // Computes the buckets of all rows in [from, to] and of the rows
+        // below until the stored bucket is correct again. Rows below only
+        // change if a bucket has been created or has become empty.
+        private void updateBuckets(int from, int to) {
+            for (int i = from; i < size; i++) {
+                int bucket = i == 0 ? 0
+                        : buckets[i - 1] + (scores[i] != scores[i - 1] ? 1 : 0);
+                if (i > to && buckets[i] == bucket) {
+                    break;
+                }
+                buckets[i] = bucket;
+            }
+        }
+    }
+}
@@ -114,8 +114,8 @@ public class GameCellRenderer extends JPanel
     }
 
     private static class TeamCell extends JPanel {
-        public static final String FORWARDED_COLOR     = "6A8659";
-        public static final String NON_FORWARDED_COLOR = "E05555";
+        public static final Color FORWARDED_COLOR     = new Color(0x6A8659);
+        public static final Color NON_FORWARDED_COLOR = new Color(0xE05555);
 
         private final JLabel teamIcon;
         private final JLabel forwardIcon;
@@ -155,10 +155,10 @@ public class GameCellRenderer extends JPanel
 
         public void setGoals(String goalsInfo) {
             this.goalsInfo = goalsInfo;
-            goals.setForeground(UIManager.getColor("Label.foreground"));
-            goals.setText(String.format("<html><span style=\"color:%s;\">%s</span></html>",
-                                        isForwarded() ? FORWARDED_COLOR : NON_FORWARDED_COLOR,
-                                        goalsInfo));
+            // plain text with a foreground color instead of HTML, which
+            // would be parsed again for every painted cell
+            goals.setForeground(isForwarded() ? FORWARDED_COLOR : NON_FORWARDED_COLOR);
+            goals.setText(goalsInfo);
         }
 
         public boolean isForwarded() {